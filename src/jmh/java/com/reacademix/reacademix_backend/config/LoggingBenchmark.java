@@ -0,0 +1,146 @@
+package com.reacademix.reacademix_backend.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.exception.SampledErrorLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드가 로그 출력에 쓰는 시간 벤치마크 (로그인 1건당 로그 1줄 기준)
+ *
+ * - sync: 요청 스레드가 직접 인코딩 + 파일 쓰기 (변경 전 기본 콘솔 출력과 같은 구조)
+ * - async: AsyncAppender 큐에 넣고 반환 (logback-spring.xml 과 같은 설정, 큐 포화 시 INFO 폐기)
+ * - disabled: DEBUG 비활성 상태의 debug 호출 (레벨 확인만)
+ * - sampled: SampledErrorLogger.record (인증 실패, 집계 주기 첫 건 이후에는 카운터 증가만)
+ * 각 항목의 Contended 버전은 8 스레드 동시 호출 (동기 출력은 appender 락 경합)
+ *
+ * 실행: gradle jmh -Pjmh.args=LoggingBenchmark
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{39} : %m%n";
+
+    private LoggerContext context;
+    private Path logDir;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private SampledErrorLogger sampledErrorLogger;
+    private long userId;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new LoggerContext();
+        logDir = Files.createTempDirectory("logging-benchmark");
+
+        syncLogger = context.getLogger("benchmark.sync");
+        syncLogger.setAdditive(false);
+        syncLogger.setLevel(Level.INFO);
+        syncLogger.addAppender(fileAppender("sync.log"));
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1638);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(fileAppender("async.log"));
+        async.start();
+        asyncLogger = context.getLogger("benchmark.async");
+        asyncLogger.setAdditive(false);
+        asyncLogger.setLevel(Level.INFO);
+        asyncLogger.addAppender(async);
+
+        sampledErrorLogger = new SampledErrorLogger();
+    }
+
+    private Appender<ILoggingEvent> fileAppender(String fileName) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setName(fileName);
+        appender.setFile(logDir.resolve(fileName).toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        try (var files = Files.list(logDir)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(logDir);
+    }
+
+    @Benchmark
+    public void sync() {
+        syncLogger.info("로그인 성공: userId={}", ++userId);
+    }
+
+    @Benchmark
+    public void async() {
+        asyncLogger.info("로그인 성공: userId={}", ++userId);
+    }
+
+    @Benchmark
+    public void disabled() {
+        asyncLogger.debug("로그인 성공: userId={}", ++userId);
+    }
+
+    @Benchmark
+    public void sampled() {
+        sampledErrorLogger.record(ErrorCode.AUTH_003, "비밀번호 불일치");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void syncContended() {
+        syncLogger.info("로그인 성공: userId={}", ++userId);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void asyncContended() {
+        asyncLogger.info("로그인 성공: userId={}", ++userId);
+    }
+}
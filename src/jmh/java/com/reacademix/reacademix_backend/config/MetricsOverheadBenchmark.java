@@ -0,0 +1,117 @@
+package com.reacademix.reacademix_backend.config;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.security.InMemoryTokenRevocationStore;
+import com.reacademix.reacademix_backend.security.JwtKeyRing;
+import com.reacademix.reacademix_backend.security.JwtTokenProvider;
+import com.reacademix.reacademix_backend.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로 계측 비용 벤치마크 (운영에서 항상 켜 둘 수 있는지 확인)
+ *
+ * - nanoTimeOnly: 계측 없이 System.nanoTime 두 번 (측정 기준선)
+ * - timerRecord: Prometheus 레지스트리의 히스토그램 Timer 기록 (security.password.hash, security.jwt 와 동일 설정)
+ * - timerRecordContended: 8 스레드가 같은 Timer 에 동시 기록
+ * - counterIncrement: api.errors 카운터 증가
+ * - signWithoutMetrics / signWithMetrics: JwtTokenProvider.generateToken (no-op 레지스트리 vs Prometheus 레지스트리)
+ *
+ * 실행: gradle jmh -Pjmh.args=MetricsOverheadBenchmark
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private static final String SECRET =
+            "reacademix-jwt-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private Timer timer;
+    private Counter counter;
+    private JwtTokenProvider providerWithoutMetrics;
+    private JwtTokenProvider providerWithMetrics;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry prometheusRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        timer = Timer.builder("benchmark.timer")
+                .publishPercentileHistogram()
+                .register(prometheusRegistry);
+        counter = Counter.builder("benchmark.counter")
+                .tag("code", "AUTH_003")
+                .register(prometheusRegistry);
+
+        // 하위 레지스트리가 없는 CompositeMeterRegistry 는 no-op 미터를 반환
+        providerWithoutMetrics = createProvider(new CompositeMeterRegistry());
+        providerWithMetrics = createProvider(prometheusRegistry);
+    }
+
+    private static JwtTokenProvider createProvider(MeterRegistry meterRegistry) {
+        JwtTokenProvider provider = new JwtTokenProvider(VerifiedTokenCache.disabled(),
+                new InMemoryTokenRevocationStore(Clock.systemDefaultZone(), 3_600_000L, 10_000), Clock.systemDefaultZone(), meterRegistry,
+                new JwtKeyRing(SECRET, ""));
+        ReflectionTestUtils.setField(provider, "expirationTime", 86_400_000L);
+        provider.init();
+        return provider;
+    }
+
+    @Benchmark
+    public long nanoTimeOnly() {
+        long start = System.nanoTime();
+        return System.nanoTime() - start;
+    }
+
+    @Benchmark
+    public void timerRecord() {
+        long start = System.nanoTime();
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void timerRecordContended() {
+        long start = System.nanoTime();
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void counterIncrement() {
+        counter.increment();
+    }
+
+    @Benchmark
+    public String signWithoutMetrics() {
+        return providerWithoutMetrics.generateToken(1L, "bench@academy.com", UserRole.ADMIN);
+    }
+
+    @Benchmark
+    public String signWithMetrics() {
+        return providerWithMetrics.generateToken(1L, "bench@academy.com", UserRole.ADMIN);
+    }
+}
@@ -0,0 +1,59 @@
+package com.reacademix.reacademix_backend.domain.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User 빌더 생성 비용 벤치마크
+ * 빌더 객체 할당 + 이메일 소문자 정규화 비용 확인 (-prof gc 로 할당량 비교)
+ *
+ * - alreadyLowerCase: 정규화된 이메일 (toLowerCase 가 같은 문자열을 반환)
+ * - mixedCase: 대문자가 섞인 이메일 (새 문자열 할당)
+ *
+ * 실행: gradle jmh -Pjmh.args="UserBuilderBenchmark -prof gc"
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserBuilderBenchmark {
+
+    private String lowerCaseEmail = "bench@academy.com";
+    private String mixedCaseEmail = "Bench.User@Academy.com";
+
+    /** 정규화된 이메일로 생성 */
+    @Benchmark
+    public User alreadyLowerCase() {
+        return build(lowerCaseEmail);
+    }
+
+    /** 대문자가 섞인 이메일로 생성 */
+    @Benchmark
+    public User mixedCase() {
+        return build(mixedCaseEmail);
+    }
+
+    private User build(String email) {
+        return User.builder()
+                .email(email)
+                .password("$2a$10$encodedPassword")
+                .name("벤치마크 사용자")
+                .role(UserRole.ADMIN)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.reacademix.reacademix_backend.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.reacademix.reacademix_backend.dto.response.ApiResponse;
+import com.reacademix.reacademix_backend.dto.response.LoginResponseDto;
+import com.reacademix.reacademix_backend.dto.response.UserResponse;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.exception.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO JSON 직렬화 벤치마크
+ * Spring Boot 기본 ObjectMapper 설정(Jackson2ObjectMapperBuilder + 날짜 ISO 문자열)으로
+ * 응답을 byte[] 로 직렬화하는 비용을 측정
+ *
+ * - loginResponse: ApiResponse<LoginResponseDto> (매 호출마다 새 객체 생성 포함)
+ * - signupResponse: UserResponse (회원가입 응답)
+ * - errorResponse: ErrorResponse.of(ErrorCode, Clock) (timestamp 생성 포함)
+ *
+ * mapper 파라미터:
+ * - reflective: @JsonSerialize 를 무시하는 기존 BeanSerializer 경로
+ * - blackbird: reflective + BlackbirdModule
+ * - tuned: 애플리케이션 설정 (전용 Serializer + BlackbirdModule)
+ *
+ * 실행: gradle jmh -Pjmh.args="ResponseSerializationBenchmark -prof gc"
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiJ9."
+            + "eyJqdGkiOiIzZjM1YjA2Ny0xYjQ1LTRmNDQtOWE3Zi1hNzI3ZDM0YjYzYjgiLCJzdWIiOiIxIiwiZW1haWwiOiJiZW5jaEBhY2FkZW15LmNvbSJ9."
+            + "Zr5Yc0lW6sF5pU4eWv8tq3t1c2k5Yk3cY0m2xqk9aG8";
+
+    @Param({"reflective", "blackbird", "tuned"})
+    private String mapper;
+
+    private final Clock clock = Clock.systemDefaultZone();
+
+    private ObjectMapper objectMapper;
+    private LocalDateTime createdAt;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (!"reflective".equals(mapper)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        if (!"tuned".equals(mapper)) {
+            builder.annotationIntrospector(new JacksonAnnotationIntrospector() {
+                @Override
+                public Object findSerializer(Annotated a) {
+                    return null;
+                }
+            });
+        }
+        objectMapper = builder.build();
+        createdAt = LocalDateTime.now();
+    }
+
+    /** 로그인 성공 응답 직렬화 */
+    @Benchmark
+    public byte[] loginResponse() throws JsonProcessingException {
+        LoginResponseDto response = LoginResponseDto.builder()
+                .token(TOKEN)
+                .tokenType("Bearer")
+                .expiresIn(900L)
+                .refreshToken("q3Jm0b8x1Yk2h9vW4tNcZsLpA7eRfUdGiHoKjM5nB6E")
+                .refreshExpiresIn(1209600L)
+                .user(LoginResponseDto.UserInfo.builder()
+                        .userId(1L)
+                        .email("bench@academy.com")
+                        .name("벤치마크 사용자")
+                        .build())
+                .build();
+        return objectMapper.writeValueAsBytes(ApiResponse.success(response, "로그인에 성공했습니다."));
+    }
+
+    /** 회원가입 응답 직렬화 */
+    @Benchmark
+    public byte[] signupResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(UserResponse.builder()
+                .userId(1L)
+                .email("bench@academy.com")
+                .name("벤치마크 사용자")
+                .createdAt(createdAt)
+                .build());
+    }
+
+    /** 에러 응답 직렬화 */
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ErrorResponse.of(ErrorCode.AUTH_002, clock));
+    }
+}
@@ -0,0 +1,95 @@
+package com.reacademix.reacademix_backend.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 401 에러 응답 작성 처리량 벤치마크 (초당 거절 응답 수)
+ *
+ * - jacksonErrorResponse: 기존 방식 (ErrorResponse 빌더 3단계 + LocalDateTime.now() + Jackson 직렬화)
+ * - precomputedErrorResponse: ErrorResponseWriter (미리 직렬화된 byte[] + 캐시된 timestamp)
+ * - handleAuthException: GlobalExceptionHandler 경유 (샘플링 로그 집계 포함)
+ *
+ * 기존 방식은 건마다 log.warn 도 남겼지만 콘솔 출력 비용은 환경에 따라 달라 여기서는 제외했다.
+ *
+ * 실행: gradle jmh -Pjmh.args="ErrorResponseBenchmark -prof gc"
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    /** 비교 대상과 같은 시간 소스 (timestamp 생성 비용 포함) */
+    private final Clock clock = Clock.systemDefaultZone();
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseWriter errorResponseWriter;
+    private GlobalExceptionHandler globalExceptionHandler;
+    private AuthException authException;
+
+    /** 응답 객체 생성 비용이 측정을 덮지 않도록 재사용 */
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        errorResponseWriter = new ErrorResponseWriter(objectMapper, clock, new SimpleMeterRegistry());
+        globalExceptionHandler = new GlobalExceptionHandler(errorResponseWriter, new SampledErrorLogger(), clock);
+        authException = new AuthException(ErrorCode.AUTH_002);
+        response = new MockHttpServletResponse();
+    }
+
+    /** 기존 방식: 요청마다 ErrorResponse 생성 + Jackson 직렬화 */
+    @Benchmark
+    public MockHttpServletResponse jacksonErrorResponse() throws IOException {
+        response.reset();
+        response.setStatus(ErrorCode.AUTH_002.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(ErrorCode.AUTH_002, clock));
+        return response;
+    }
+
+    /** 미리 직렬화된 응답 작성 */
+    @Benchmark
+    public MockHttpServletResponse precomputedErrorResponse() throws IOException {
+        response.reset();
+        errorResponseWriter.write(response, ErrorCode.AUTH_002);
+        return response;
+    }
+
+    /** GlobalExceptionHandler 경유 (샘플링 로그 집계 포함) */
+    @Benchmark
+    public MockHttpServletResponse handleAuthException() throws IOException {
+        response.reset();
+        globalExceptionHandler.handleAuthException(authException, response);
+        return response;
+    }
+}
@@ -0,0 +1,206 @@
+package com.reacademix.reacademix_backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 서버에 대한 closed-loop HTTP 부하 테스트
+ *
+ * 동시 연결 수(concurrency)만큼의 가상 사용자가 각자 응답을 받는 즉시 다음 요청을 보낸다.
+ * 플랫폼 스레드 모드와 가상 스레드 모드의 p99 지연 시간, 메모리 사용량 비교용.
+ *
+ * - 시나리오: POST /api/v1/auth/login 반복 (JDBC 조회 + BCrypt 검증)
+ *   --email/--password 미지정 시 존재하지 않는 계정으로 로그인 (loadtest 프로파일은 이메일 필터를 끄므로
+ *   DB 조회 후 더미 해시 검증까지 실제 계정과 같은 비용을 지불하고 401 응답)
+ * - 지연 시간: warmup 이후 응답의 p50/p90/p99/p99.9/max, 상태 코드별 건수
+ * - 메모리: --pid 지정 시 /proc/{pid}/status 의 VmRSS(최대), VmHWM, 스레드 수(최대)를 1초마다 샘플링 (Linux)
+ *
+ * 비교 절차 (동시 연결 5,000개, 클라이언트/서버 모두 ulimit -n 20000 이상):
+ * 1. gradle bootRun --args=--spring.profiles.active=loadtest
+ *    gradle loadTest -PloadTest.args="--concurrency 5000 --duration 60 --pid 서버PID"
+ * 2. gradle bootRun -PjavaVersion=21 --args=--spring.profiles.active=loadtest,virtual
+ *    gradle loadTest -PloadTest.args="--concurrency 5000 --duration 60 --pid 서버PID"
+ *
+ * 옵션: --url (기본 http://localhost:8080) --concurrency (기본 5000) --duration 초 (기본 60) --warmup 초 (기본 10)
+ *       --pid --email --password
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public final class HttpLoadTest {
+
+    /** 기록할 최대 응답 수 (초과분은 상태 코드만 집계) */
+    private static final int MAX_SAMPLES = 10_000_000;
+
+    private final URI baseUri;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Long pid;
+    private final String email;
+    private final String password;
+    private final HttpClient client;
+
+    private final long[] latencies = new long[MAX_SAMPLES];
+    private final AtomicInteger sampleCount = new AtomicInteger();
+    private final Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final AtomicLong maxRssKb = new AtomicLong();
+    private final AtomicLong maxThreads = new AtomicLong();
+
+    private HttpLoadTest(URI baseUri, int concurrency, Duration duration, Duration warmup, Long pid,
+                         String email, String password) {
+        this.baseUri = baseUri;
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.pid = pid;
+        this.email = email;
+        this.password = password;
+        // 요청 전송/응답 처리는 selector 스레드에서 비동기로 수행 (연결당 스레드 없음)
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        HttpLoadTest test = new HttpLoadTest(
+                URI.create(options.getOrDefault("url", "http://localhost:8080")),
+                Integer.parseInt(options.getOrDefault("concurrency", "5000")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                options.containsKey("pid") ? Long.valueOf(options.get("pid")) : null,
+                options.getOrDefault("email", "loadtest@academy.com"),
+                options.getOrDefault("password", "SecurePass123!"));
+        test.run();
+    }
+
+    private void run() throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/login"))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        if (pid != null) {
+            sampler.scheduleAtFixedRate(this::sampleMemory, 0, 1, TimeUnit.SECONDS);
+        }
+
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        System.out.printf("부하 테스트 시작: url=%s, concurrency=%d, warmup=%ds, duration=%ds%n",
+                baseUri, concurrency, warmup.toSeconds(), duration.toSeconds());
+        for (int i = 0; i < concurrency; i++) {
+            loop(login, recordFrom, end, done);
+        }
+        done.await();
+        long measuredNanos = System.nanoTime() - recordFrom;
+        sampler.shutdownNow();
+
+        report(measuredNanos);
+    }
+
+    /** 가상 사용자 1명: 응답 수신 즉시 다음 요청 전송, end 이후 종료 */
+    private void loop(HttpRequest request, long recordFrom, long end, CountDownLatch done) {
+        long sentAt = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long receivedAt = System.nanoTime();
+                    if (sentAt >= recordFrom) {
+                        String status = error != null ? error.getClass().getSimpleName() : String.valueOf(response.statusCode());
+                        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+                        int index = sampleCount.getAndIncrement();
+                        if (index < MAX_SAMPLES) {
+                            latencies[index] = receivedAt - sentAt;
+                        }
+                    }
+                    if (receivedAt < end) {
+                        loop(request, recordFrom, end, done);
+                    } else {
+                        done.countDown();
+                    }
+                });
+    }
+
+    private void sampleMemory() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", pid.toString(), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    maxRssKb.accumulateAndGet(kilobytes(line), Math::max);
+                } else if (line.startsWith("Threads:")) {
+                    maxThreads.accumulateAndGet(Long.parseLong(line.substring(8).trim()), Math::max);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("메모리 샘플링 실패: " + e.getMessage());
+        }
+    }
+
+    private void report(long measuredNanos) throws IOException {
+        int count = Math.min(sampleCount.get(), MAX_SAMPLES);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        System.out.printf("요청 수: %d, 처리량: %.1f req/s%n", sampleCount.get(),
+                sampleCount.get() / (measuredNanos / 1e9));
+        System.out.println("상태 코드: " + new TreeMap<>(Map.copyOf(statusCounts)));
+        if (count > 0) {
+            System.out.printf("지연 시간(ms): p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), sorted[count - 1] / 1e6);
+        }
+        if (pid != null) {
+            long hwmKb = 0;
+            for (String line : Files.readAllLines(Path.of("/proc", pid.toString(), "status"))) {
+                if (line.startsWith("VmHWM:")) {
+                    hwmKb = kilobytes(line);
+                }
+            }
+            System.out.printf("서버 메모리: 최대 RSS=%d MB, VmHWM=%d MB, 최대 스레드 수=%d%n",
+                    maxRssKb.get() / 1024, hwmKb / 1024, maxThreads.get());
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private static long kilobytes(String statusLine) {
+        return Long.parseLong(statusLine.replaceAll("[^0-9]", ""));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,126 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.ReacademixBackendApplication;
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 인증된 요청의 Security 필터 체인 지연 시간 부하 테스트
+ *
+ * users 테이블의 사용자 수(userCount)를 늘려도 JwtAuthenticationFilter는 토큰 클레임만 사용하므로
+ * 요청 지연 시간이 일정하게 유지되어야 한다. (DB 조회 없음)
+ *
+ * 실행: gradle jmh -Pjmh.args=AuthenticatedRequestBenchmark
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticatedRequestBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"100", "10000", "100000"})
+    private int userCount;
+
+    private ConfigurableApplicationContext context;
+    private FilterChainProxy filterChainProxy;
+    private String authorization;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(ReacademixBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.reacademix=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        filterChainProxy = context.getBean(FilterChainProxy.class);
+
+        seedUsers(context.getBean(JdbcTemplate.class), userCount);
+
+        User user = User.builder()
+                .email("user0@academy.com")
+                .password("$2a$10$encodedPassword")
+                .name("부하 테스트 사용자")
+                .role(UserRole.ADMIN)
+                .status(UserStatus.ACTIVE)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        authorization = "Bearer " + context.getBean(JwtTokenProvider.class).generateToken(user);
+
+        // 사전 검증: 인증을 통과해 필터 체인 끝까지 도달해야 한다
+        MockFilterChain chain = new MockFilterChain();
+        doFilter(chain);
+        if (chain.getRequest() == null) {
+            throw new IllegalStateException("인증된 요청이 필터 체인을 통과하지 못했습니다.");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 인증이 필요한 엔드포인트에 대한 Security 필터 체인 처리 */
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws Exception {
+        return doFilter(new MockFilterChain());
+    }
+
+    private MockHttpServletResponse doFilter(MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/students");
+        request.setServletPath("/api/v1/students");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChainProxy.doFilter(request, response, chain);
+        return response;
+    }
+
+    private void seedUsers(JdbcTemplate jdbcTemplate, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, count);
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO users (email, password, name, role, status, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, 'ADMIN', 'ACTIVE', ?, ?)",
+                    IntStream.range(from, to)
+                            .mapToObj(i -> new Object[]{
+                                    "user" + i + "@academy.com", "$2a$10$encodedPassword", "사용자" + i, now, now})
+                            .toList());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.reacademix.reacademix_backend.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT HS256 서명/검증 처리량 벤치마크 (jjwt 기본 구현 vs 키 링 + Mac 풀)
+ *
+ * - default*: Jwts.SIG.HS256 (호출마다 Mac.getInstance + init)
+ * - ring*: JwtKeyRing 서명 키 + HmacSha256Algorithm (풀에서 초기화된 Mac 대여)
+ * - *Contended: 8 스레드 동시 호출 (Mac 풀 CAS 경합 포함)
+ *
+ * 실행: gradle jmh -Pjmh.args=JwtKeyRingBenchmark
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtKeyRingBenchmark {
+
+    private static final String SECRET =
+            "reacademix-jwt-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private SecretKey defaultKey;
+    private JwtParser defaultParser;
+    private String defaultToken;
+
+    private JwtKeyRing.RingKey ringKey;
+    private JwtParser ringParser;
+    private String ringToken;
+
+    @Setup
+    public void setUp() {
+        defaultKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        defaultParser = Jwts.parser().verifyWith(defaultKey).build();
+        defaultToken = signDefault();
+
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "");
+        ringKey = keyRing.signingKey();
+        ringParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .sig().add(HmacSha256Algorithm.INSTANCE).and()
+                .build();
+        ringToken = signRing();
+    }
+
+    @Benchmark
+    public String signDefault() {
+        return Jwts.builder()
+                .subject("1")
+                .claim("email", "bench@academy.com")
+                .signWith(defaultKey, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String signRing() {
+        return Jwts.builder()
+                .header().keyId(ringKey.kid()).and()
+                .subject("1")
+                .claim("email", "bench@academy.com")
+                .signWith(ringKey, HmacSha256Algorithm.INSTANCE)
+                .compact();
+    }
+
+    @Benchmark
+    public Object verifyDefault() {
+        return defaultParser.parseSignedClaims(defaultToken).getPayload();
+    }
+
+    @Benchmark
+    public Object verifyRing() {
+        return ringParser.parseSignedClaims(ringToken).getPayload();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String signDefaultContended() {
+        return signDefault();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String signRingContended() {
+        return signRing();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object verifyRingContended() {
+        return ringParser.parseSignedClaims(ringToken).getPayload();
+    }
+}
@@ -0,0 +1,134 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 발급/검증 처리량 벤치마크
+ *
+ * - generateToken: 토큰 발급 (클레임 직렬화 + HMAC 서명)
+ * - parseToken: 미리 생성한 파서로 서명 검증 + 클레임 파싱만 수행 (JwtTokenProvider.parseToken 과 동일)
+ * - legacy*: 호출마다 파서를 새로 생성하고 클레임별로 토큰을 다시 검증하던 기존 방식
+ * - prebuilt*: init()에서 생성한 파서로 한 번만 검증하는 현재 방식
+ * - cached*: VerifiedTokenCache 적중 시 (다이제스트 계산 + 캐시 조회)
+ *
+ * 실행: gradle jmh -Pjmh.args=JwtTokenProviderBenchmark
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "reacademix-jwt-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider cachedJwtTokenProvider;
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(VerifiedTokenCache.disabled(),
+                new InMemoryTokenRevocationStore(Clock.systemDefaultZone(), 3_600_000L, 10_000), Clock.systemDefaultZone(),
+                new SimpleMeterRegistry(), new JwtKeyRing(SECRET, ""));
+        ReflectionTestUtils.setField(jwtTokenProvider, "expirationTime", 86_400_000L);
+        jwtTokenProvider.init();
+
+        cachedJwtTokenProvider = new JwtTokenProvider(new VerifiedTokenCache(Clock.systemDefaultZone(), true, 10_000),
+                new InMemoryTokenRevocationStore(Clock.systemDefaultZone(), 3_600_000L, 10_000), Clock.systemDefaultZone(),
+                new SimpleMeterRegistry(), new JwtKeyRing(SECRET, ""));
+        ReflectionTestUtils.setField(cachedJwtTokenProvider, "expirationTime", 86_400_000L);
+        cachedJwtTokenProvider.init();
+
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+
+        user = User.builder()
+                .email("bench@academy.com")
+                .password("$2a$10$encodedPassword")
+                .name("벤치마크 사용자")
+                .role(UserRole.ADMIN)
+                .status(UserStatus.ACTIVE)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        token = jwtTokenProvider.generateToken(user);
+    }
+
+    /** 토큰 발급 */
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(user);
+    }
+
+    /** 미리 생성한 파서로 서명 검증 + 클레임 파싱 */
+    @Benchmark
+    public Claims parseToken() {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /** 기존 방식: 파서 생성 + 검증 1회 */
+    @Benchmark
+    public Claims legacySingleParse() {
+        return legacyParse(token);
+    }
+
+    /** 기존 방식: getUserId/getEmail/validate 호출로 검증 3회 */
+    @Benchmark
+    public void legacyThreeParses(Blackhole bh) {
+        bh.consume(Long.parseLong(legacyParse(token).getSubject()));
+        bh.consume(legacyParse(token).get("email", String.class));
+        bh.consume(legacyParse(token));
+    }
+
+    /** 현재 방식: 미리 생성한 파서로 검증 1회 */
+    @Benchmark
+    public AuthenticatedPrincipal prebuiltAuthenticate() {
+        return jwtTokenProvider.authenticate(token);
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    /** 검증 캐시 적중: 서명 검증 없이 다이제스트 조회만 수행 */
+    @Benchmark
+    public AuthenticatedPrincipal cachedAuthenticate() {
+        return cachedJwtTokenProvider.authenticate(token);
+    }
+}
@@ -0,0 +1,62 @@
+package com.reacademix.reacademix_backend.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 요청 제한의 허용 경로 비용 벤치마크 (목표: 요청당 1µs 미만)
+ * 키 10,000개가 등록된 상태에서 한도에 걸리지 않는 요청을 확인한다.
+ *
+ * - singleClient: 같은 IP/이메일 반복 (버킷 조회 적중 + CAS 2회)
+ * - contended: 8 스레드가 같은 IP 버킷을 동시에 갱신 (CAS 경합)
+ *
+ * 실행: gradle jmh -Pjmh.args=LoginRateLimiterBenchmark
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginRateLimiterBenchmark {
+
+    private LoginRateLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100_000, Duration.ofMinutes(10));
+        // 측정 중 거부되지 않도록 버킷 크기를 충분히 크게 설정 (허용 경로만 측정)
+        limiter = new LoginRateLimiter(store, true,
+                Integer.MAX_VALUE, Duration.ofNanos(1), Integer.MAX_VALUE, Duration.ofNanos(1),
+                Integer.MAX_VALUE, Duration.ofNanos(1));
+        for (int i = 0; i < 10_000; i++) {
+            limiter.check("10.0." + (i / 256) + "." + (i % 256), "user" + i + "@academy.com");
+        }
+    }
+
+    @Benchmark
+    public void singleClient() {
+        limiter.check("10.0.1.1", "user257@academy.com");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void contended() {
+        limiter.check("10.0.1.1", "user257@academy.com");
+    }
+}
@@ -0,0 +1,64 @@
+package com.reacademix.reacademix_backend.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InMemoryTokenRevocationStore 조회 비용 벤치마크
+ * 폐기 토큰 10,000건이 등록된 상태에서 폐기되지 않은 토큰(일반적인 경우) 조회
+ *
+ * 실행: gradle jmh -Pjmh.args=TokenRevocationStoreBenchmark
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenRevocationStoreBenchmark {
+
+    private InMemoryTokenRevocationStore store;
+    private String activeTokenId;
+    private String revokedTokenId;
+    private Instant expiresAt;
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryTokenRevocationStore(Clock.systemDefaultZone(), 3_600_000L, 10_000);
+        expiresAt = Instant.now().plusSeconds(1_800);
+        for (int i = 0; i < 10_000; i++) {
+            store.revoke(UUID.randomUUID().toString(), expiresAt);
+        }
+        revokedTokenId = UUID.randomUUID().toString();
+        store.revoke(revokedTokenId, expiresAt);
+        activeTokenId = UUID.randomUUID().toString();
+    }
+
+    /** 폐기되지 않은 토큰 (Bloom filter에서 바로 false) */
+    @Benchmark
+    public boolean activeToken() {
+        return store.isRevoked(activeTokenId, expiresAt);
+    }
+
+    /** 폐기된 토큰 (Bloom filter 양성 → 정확한 집합 확인) */
+    @Benchmark
+    public boolean revokedToken() {
+        return store.isRevoked(revokedTokenId, expiresAt);
+    }
+}
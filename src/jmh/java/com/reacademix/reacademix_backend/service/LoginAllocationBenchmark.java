@@ -0,0 +1,121 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.reacademix.reacademix_backend.ReacademixBackendApplication;
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.dto.request.LoginRequestDto;
+import com.reacademix.reacademix_backend.dto.response.LoginResponseDto;
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.repository.projection.LoginCredential;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 1회당 힙 할당량 벤치마크 (gc.alloc.rate.norm 비교용)
+ *
+ * - entityLookup: 기존 방식. 읽기 전용 트랜잭션에서 User 엔티티 전체 조회 (스냅샷, 감사 필드, 영속성 컨텍스트 등록)
+ * - projectionLookup: 현재 방식. LoginCredential Projection 조회 (읽기 전용 + 수동 flush 힌트)
+ * - login: AuthService.login 전체 (조회 + BCrypt strength 4 검증 + 토큰 발급 + 응답 DTO)
+ *
+ * 실행: gradle jmh -Pjmh.args="LoginAllocationBenchmark -prof gc"
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginAllocationBenchmark {
+
+    private static final String EMAIL = "bench@academy.com";
+    private static final String PASSWORD = "SecurePass123!";
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private AuthService authService;
+    private TransactionTemplate readOnlyTransaction;
+    private LoginRequestDto request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReacademixBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "security.password.calibrate=false",
+                        "security.password.min-strength=4",
+                        "logging.level.root=WARN",
+                        "logging.level.com.reacademix=WARN")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        authService = context.getBean(AuthService.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        context.getBean(JdbcTemplate.class).update(
+                "INSERT INTO users (email, password, name, role, status, created_at, updated_at) "
+                        + "VALUES (?, ?, '벤치마크 사용자', 'ADMIN', 'ACTIVE', NOW(), NOW())",
+                EMAIL, hash);
+
+        request = LoginRequestDto.builder()
+                .email(EMAIL)
+                .password(PASSWORD)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 기존 방식: User 엔티티 조회 후 응답용 사용자 정보 구성 */
+    @Benchmark
+    public LoginResponseDto.UserInfo entityLookup() {
+        return readOnlyTransaction.execute(status -> {
+            User user = userRepository.findByEmail(EMAIL).orElseThrow();
+            return LoginResponseDto.UserInfo.builder()
+                    .userId(user.getId())
+                    .email(user.getEmail())
+                    .name(user.getName())
+                    .build();
+        });
+    }
+
+    /** 현재 방식: Projection 조회 후 응답용 사용자 정보 구성 */
+    @Benchmark
+    public LoginResponseDto.UserInfo projectionLookup() {
+        LoginCredential credential = userRepository.findLoginCredentialByEmail(EMAIL).orElseThrow();
+        return LoginResponseDto.UserInfo.builder()
+                .userId(credential.id())
+                .email(credential.email())
+                .name(credential.name())
+                .build();
+    }
+
+    /** 로그인 전체 */
+    @Benchmark
+    public LoginResponseDto login() {
+        return authService.login(request);
+    }
+}
@@ -0,0 +1,99 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.reacademix.reacademix_backend.ReacademixBackendApplication;
+import com.reacademix.reacademix_backend.dto.request.LoginRequestDto;
+import com.reacademix.reacademix_backend.dto.response.LoginResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정된 커넥션 풀 크기에서의 동시 로그인 처리량 벤치마크
+ *
+ * - transactionalLogin: 기존 방식. 로그인 전체를 트랜잭션으로 감싸 BCrypt 검증/토큰 서명 동안 커넥션 점유
+ * - pipelinedLogin: 현재 방식. Projection 조회 후 커넥션을 반환하고 CPU 작업은 트랜잭션 밖에서 수행
+ *
+ * Hikari 풀 2개, BCrypt 스레드 8개, 동시 요청 16개 기준
+ *
+ * 실행: gradle jmh -Pjmh.args=LoginThroughputBenchmark
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(16)
+@Fork(1)
+public class LoginThroughputBenchmark {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    private ConfigurableApplicationContext context;
+    private AuthService authService;
+    private TransactionTemplate transactionTemplate;
+    private LoginRequestDto request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReacademixBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.hikari.maximum-pool-size=2",
+                        "spring.jpa.show-sql=false",
+                        "security.password.calibrate=false",
+                        "security.password.threads=8",
+                        "logging.level.root=WARN",
+                        "logging.level.com.reacademix=WARN")
+                .run();
+        authService = context.getBean(AuthService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        context.getBean(JdbcTemplate.class).update(
+                "INSERT INTO users (email, password, name, role, status, created_at, updated_at) "
+                        + "VALUES ('bench@academy.com', ?, '벤치마크 사용자', 'ADMIN', 'ACTIVE', NOW(), NOW())",
+                hash);
+
+        request = LoginRequestDto.builder()
+                .email("bench@academy.com")
+                .password(PASSWORD)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 기존 방식: 로그인 전체가 하나의 트랜잭션 (커넥션 점유) */
+    @Benchmark
+    public LoginResponseDto transactionalLogin() {
+        return transactionTemplate.execute(status -> authService.login(request));
+    }
+
+    /** 현재 방식: 짧은 조회 트랜잭션 + 트랜잭션 밖 CPU 작업 */
+    @Benchmark
+    public LoginResponseDto pipelinedLogin() {
+        return authService.login(request);
+    }
+}
@@ -0,0 +1,88 @@
+package com.reacademix.reacademix_backend.common;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1ms 주기로 갱신되는 캐시 Clock
+ *
+ * 백그라운드 스레드가 1ms마다 현재 시각을 읽어 Instant 와 LocalDateTime 을 미리 만들어 두고,
+ * 호출 측은 volatile 읽기만으로 시각을 얻는다. (시스템 시계 호출, 타임존 변환, 객체 할당 없음)
+ * 정밀도는 최대 약 1ms (스케줄 지연 시 그 이상) 늦을 수 있으므로 응답/감사용 타임스탬프처럼
+ * 밀리초 정밀도로 충분한 곳에만 사용한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public final class CachedClock extends Clock implements AutoCloseable {
+
+    private final Clock source;
+    private final ScheduledExecutorService ticker;
+    private volatile Tick tick;
+
+    /**
+     * @param source 실제 시각을 읽을 Clock (보통 Clock.systemDefaultZone())
+     */
+    public CachedClock(Clock source) {
+        this.source = source;
+        this.tick = Tick.of(source);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cached-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(() -> tick = Tick.of(source), 1, 1, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Clock 의 현재 LocalDateTime
+     * CachedClock 이면 미리 변환해 둔 값을, 그 외에는 LocalDateTime.now(clock) 을 반환
+     *
+     * @param clock Clock
+     * @return 현재 LocalDateTime (clock 의 타임존 기준)
+     */
+    public static LocalDateTime localDateTime(Clock clock) {
+        if (clock instanceof CachedClock cachedClock) {
+            return cachedClock.tick.localDateTime;
+        }
+        return LocalDateTime.now(clock);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return source.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(getZone()) ? this : source.withZone(zone);
+    }
+
+    @Override
+    public long millis() {
+        return tick.instant.toEpochMilli();
+    }
+
+    @Override
+    public Instant instant() {
+        return tick.instant;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private record Tick(Instant instant, LocalDateTime localDateTime) {
+
+        private static Tick of(Clock source) {
+            Instant instant = source.instant();
+            return new Tick(instant, LocalDateTime.ofInstant(instant, source.getZone()));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reacademix.reacademix_backend.config;
+
+import com.reacademix.reacademix_backend.common.CachedClock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 애플리케이션 공용 Clock 설정
+ * 응답 타임스탬프, JWT 발급 시각, JPA Auditing 시각은 모두 이 Clock을 사용한다.
+ * (테스트에서는 Clock.fixed 로 대체하여 시각을 고정할 수 있음)
+ *
+ * - app.clock.cached=true: 1ms 주기로 갱신되는 CachedClock (핫패스의 시스템 시계 호출 제거)
+ * - app.clock.cached=false: 시스템 Clock
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${app.clock.cached:false}") boolean cached) {
+        log.info("Clock 설정: cached={}", cached);
+        return cached ? new CachedClock(Clock.systemDefaultZone()) : Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,25 @@
+package com.reacademix.reacademix_backend.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 설정
+ * Module 빈은 Spring Boot가 기본 ObjectMapper에 자동 등록한다.
+ *
+ * - BlackbirdModule: getter/setter 리플렉션 호출을 LambdaMetafactory 로 생성한 접근자로 대체
+ * - ApiResponse, LoginResponseDto 는 전용 Serializer (@JsonSerialize) 사용
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
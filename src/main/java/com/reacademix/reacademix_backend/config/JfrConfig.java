@@ -0,0 +1,48 @@
+package com.reacademix.reacademix_backend.config;
+
+import com.reacademix.reacademix_backend.jfr.SlowRepositoryCallListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.time.Duration;
+
+/**
+ * JFR 도메인 이벤트 설정
+ *
+ * - LoginStageEvent: AuthService.login 단계별 소요 시간
+ * - JwtParseFailureEvent: JwtTokenProvider 검증 실패 원인
+ * - SlowRepositoryCallEvent: 임계값 이상 걸린 Repository 호출 (여기서 리스너 등록)
+ * 이벤트는 JFR 기록 중일 때만 남는다. (jfr 프로파일 또는 -XX:StartFlightRecording, jcmd JFR.start)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Configuration
+public class JfrConfig {
+
+    /**
+     * 모든 Spring Data Repository 에 느린 호출 기록 리스너 등록
+     * Repository 생성 전에 팩토리에 추가해야 하므로 초기화 전 단계에서 처리한다.
+     * (BeanPostProcessor 이므로 static 으로 선언하여 설정 클래스의 조기 생성을 피함)
+     *
+     * @param thresholdMillis 기록 임계값 (ms)
+     * @return BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor slowRepositoryCallListenerRegistrar(
+            @Value("${app.jfr.slow-repository-threshold-ms:50}") long thresholdMillis) {
+        SlowRepositoryCallListener listener = new SlowRepositoryCallListener(Duration.ofMillis(thresholdMillis));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
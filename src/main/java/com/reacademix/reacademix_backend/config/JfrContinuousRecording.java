@@ -0,0 +1,94 @@
+package com.reacademix.reacademix_backend.config;
+
+import com.reacademix.reacademix_backend.jfr.JwtParseFailureEvent;
+import com.reacademix.reacademix_backend.jfr.LoginStageEvent;
+import com.reacademix.reacademix_backend.jfr.SlowRepositoryCallEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * 상시 JFR 기록 (jfr 프로파일)
+ *
+ * JDK 기본 설정(default.jfc, 오버헤드 약 1%)에 애플리케이션 이벤트를 추가하여 기록을 시작한다.
+ * 기록은 JFR 저장소(디스크)에 청크 단위로 쓰이며 max-age/max-size 를 넘는 오래된 청크부터 삭제된다.
+ * 지연 급증 시 jcmd <pid> JFR.dump name=reacademix filename=... 로 최근 구간을 덤프하고,
+ * 종료 시에는 dump-path 로 자동 덤프한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jfr.recording.enabled", havingValue = "true")
+public class JfrContinuousRecording {
+
+    static final String RECORDING_NAME = "reacademix";
+
+    private final String settings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final String dumpPath;
+    private final Duration loginStageThreshold;
+    private Recording recording;
+
+    public JfrContinuousRecording(
+            @Value("${app.jfr.recording.settings:default}") String settings,
+            @Value("${app.jfr.recording.max-age:PT6H}") Duration maxAge,
+            @Value("${app.jfr.recording.max-size-mb:512}") long maxSizeMb,
+            @Value("${app.jfr.recording.dump-path:}") String dumpPath,
+            @Value("${app.jfr.login-stage-threshold-ms:10}") long loginStageThresholdMillis) {
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.dumpPath = dumpPath;
+        this.loginStageThreshold = Duration.ofMillis(loginStageThresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        if (StringUtils.hasText(dumpPath)) {
+            Path destination = Path.of(dumpPath);
+            if (destination.getParent() != null) {
+                Files.createDirectories(destination.getParent());
+            }
+            recording.setDestination(destination);
+            recording.setDumpOnExit(true);
+        }
+
+        recording.enable(LoginStageEvent.NAME).withThreshold(loginStageThreshold);
+        recording.enable(JwtParseFailureEvent.NAME);
+        recording.enable(SlowRepositoryCallEvent.NAME);
+        recording.start();
+        log.info("JFR 상시 기록 시작: settings={}, maxAge={}, maxSize={}MB, dumpPath={}",
+                settings, maxAge, maxSizeBytes / 1024 / 1024, StringUtils.hasText(dumpPath) ? dumpPath : "-");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            // destination 이 지정된 경우 stop 시 해당 파일로 기록된다. (close 만 하면 덤프 없이 폐기)
+            if (recording.getDestination() != null) {
+                recording.stop();
+            }
+            recording.close();
+        }
+    }
+}
@@ -1,14 +1,25 @@
 package com.reacademix.reacademix_backend.config;
 
+import com.reacademix.reacademix_backend.common.CachedClock;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.Clock;
+import java.util.Optional;
+
 /**
  * JPA Auditing 설정
  * BaseTimeEntity의 @CreatedDate, @LastModifiedDate 활성화
+ * 시각은 공용 Clock 빈에서 가져온다.
  */
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class JpaAuditingConfig {
-}
 
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider(Clock clock) {
+        return () -> Optional.of(CachedClock.localDateTime(clock));
+    }
+}
@@ -0,0 +1,111 @@
+package com.reacademix.reacademix_backend.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.env.PropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 운영(prod) 프로파일 기동 전 설정 검사
+ *
+ * 설정 파일 로딩이 끝난 직후, 컨텍스트 생성(DB 연결, 스키마 처리) 전에 실행되어
+ * 개발 전용 설정이 운영 환경에 섞여 있으면 위반 항목을 모두 모아 기동을 중단한다.
+ * (META-INF/spring.factories 에 등록)
+ *
+ * - H2 데이터소스/콘솔, H2 Dialect
+ * - SQL 로그 (show-sql, format_sql)
+ * - 스키마 자동 생성/변경 (ddl-auto create, create-drop, update)
+ * - DEBUG/TRACE 로그 레벨
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public class ProductionSettingsValidator implements EnvironmentPostProcessor, Ordered {
+
+    static final String PRODUCTION_PROFILE = "prod";
+
+    private static final Set<String> SCHEMA_MUTATING_DDL = Set.of("create", "create-drop", "create-only", "update");
+    private static final Set<String> VERBOSE_LOG_LEVELS = Set.of("DEBUG", "TRACE", "ALL");
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.acceptsProfiles(Profiles.of(PRODUCTION_PROFILE))) {
+            return;
+        }
+        List<String> violations = validate(environment);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("운영 프로파일에 개발 전용 설정이 활성화되어 있습니다: " + violations);
+        }
+    }
+
+    /**
+     * 개발 전용 설정 위반 항목 검사
+     *
+     * @param environment 설정 파일 로딩이 끝난 Environment
+     * @return 위반 항목 목록 (없으면 빈 목록)
+     */
+    static List<String> validate(ConfigurableEnvironment environment) {
+        List<String> violations = new ArrayList<>();
+
+        String url = environment.getProperty("spring.datasource.url", "");
+        if (url.startsWith("jdbc:h2:")) {
+            violations.add("spring.datasource.url=" + url);
+        }
+        rejectTrue(environment, "spring.h2.console.enabled", violations);
+        rejectTrue(environment, "spring.jpa.show-sql", violations);
+        rejectTrue(environment, "spring.jpa.properties.hibernate.format_sql", violations);
+        rejectTrue(environment, "spring.jpa.properties.hibernate.generate_statistics", violations);
+
+        String ddlAuto = environment.getProperty("spring.jpa.hibernate.ddl-auto", "none");
+        if (SCHEMA_MUTATING_DDL.contains(ddlAuto.toLowerCase(Locale.ROOT))) {
+            violations.add("spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+        }
+        String dialect = environment.getProperty("spring.jpa.properties.hibernate.dialect", "");
+        if (dialect.contains("H2")) {
+            violations.add("spring.jpa.properties.hibernate.dialect=" + dialect);
+        }
+
+        for (String name : loggingLevelNames(environment)) {
+            String level = environment.getProperty(name, "");
+            if (VERBOSE_LOG_LEVELS.contains(level.toUpperCase(Locale.ROOT))) {
+                violations.add(name + "=" + level);
+            }
+        }
+        return violations;
+    }
+
+    private static void rejectTrue(ConfigurableEnvironment environment, String name, List<String> violations) {
+        if (environment.getProperty(name, Boolean.class, false)) {
+            violations.add(name + "=true");
+        }
+    }
+
+    private static Set<String> loggingLevelNames(ConfigurableEnvironment environment) {
+        Set<String> names = new TreeSet<>();
+        for (PropertySource<?> source : environment.getPropertySources()) {
+            if (source instanceof EnumerablePropertySource<?> enumerable) {
+                for (String name : enumerable.getPropertyNames()) {
+                    if (name.startsWith("logging.level.")) {
+                        names.add(name);
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public int getOrder() {
+        // 설정 파일(ConfigData) 로딩 이후에 실행
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
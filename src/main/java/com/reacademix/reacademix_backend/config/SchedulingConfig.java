@@ -0,0 +1,13 @@
+package com.reacademix.reacademix_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 토큰 폐기 저장소 정리/동기화 등 주기 작업의 @Scheduled 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
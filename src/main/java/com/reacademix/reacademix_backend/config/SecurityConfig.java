@@ -1,7 +1,17 @@
 package com.reacademix.reacademix_backend.config;
 
+import com.reacademix.reacademix_backend.security.BCryptStrengthCalibrator;
+import com.reacademix.reacademix_backend.security.JwtAuthenticationEntryPoint;
+import com.reacademix.reacademix_backend.security.JwtAuthenticationFilter;
+import com.reacademix.reacademix_backend.security.JwtTokenProvider;
+import com.reacademix.reacademix_backend.security.UserIdentityCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -10,6 +20,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Spring Security 설정
@@ -20,54 +31,134 @@ import org.springframework.security.web.SecurityFilterChain;
  */
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    /** 인증 없이 접근 가능한 엔드포인트 */
+    private static final String[] PUBLIC_ENDPOINTS = {
+            "/api/v1/auth/**",   // 로그인, 회원가입 등
+            "/h2-console/**",    // H2 Console (개발용)
+            "/swagger-ui/**",    // Swagger UI
+            "/v3/api-docs/**",   // OpenAPI 문서
+            "/actuator/health"   // Health Check
+    };
+
+    /** 메트릭 스크레이프 (관리 포트에서만 공개, 애플리케이션 포트에서는 ADMIN 전용) */
+    private static final String PROMETHEUS_ENDPOINT = "/actuator/prometheus";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserIdentityCache userIdentityCache;
+    private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
     /**
      * PasswordEncoder Bean 등록
-     * bcrypt 알고리즘 사용 (salt rounds: 10)
+     * bcrypt 알고리즘 사용 (salt rounds: 노드별 보정값, 최소 10)
      * 
+     * @param bcryptStrengthCalibrator BCrypt strength 보정기
      * @return PasswordEncoder BCryptPasswordEncoder 인스턴스
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);  // salt rounds: 10
+    public PasswordEncoder passwordEncoder(BCryptStrengthCalibrator bcryptStrengthCalibrator) {
+        return new BCryptPasswordEncoder(bcryptStrengthCalibrator.getStrength());
     }
 
     /**
-     * Spring Security 필터 체인 설정
-     * - CSRF 비활성화 (JWT 사용으로 불필요)
-     * - 세션 관리 비활성화 (Stateless)
-     * - 인증 없이 접근 가능한 엔드포인트 설정
+     * 관리 포트(management.server.port) 전용 필터 체인
+     * 관리 포트는 내부망에서만 접근 가능하므로 인증 없이 Actuator(health, prometheus)를 제공한다.
+     * 관리 포트를 분리하지 않은 환경(기본/개발)에서는 등록되지 않으며, 메트릭은 보호된 체인에서 ADMIN만 조회한다.
      * 
      * @param http HttpSecurity 객체
+     * @param managementPort 관리 포트
      * @return SecurityFilterChain
      * @throws Exception 설정 오류 시
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(0)
+    @ConditionalOnProperty("management.server.port")
+    public SecurityFilterChain managementFilterChain(
+            HttpSecurity http, @Value("${management.server.port}") int managementPort) throws Exception {
         http
-            // CSRF 비활성화 (REST API + JWT 사용으로 불필요)
+            .securityMatcher(request -> request.getLocalPort() == managementPort)
+            .csrf(AbstractHttpConfigurer::disable)
+            .securityContext(AbstractHttpConfigurer::disable)
+            .sessionManagement(AbstractHttpConfigurer::disable)
+            .requestCache(AbstractHttpConfigurer::disable)
+            .anonymous(AbstractHttpConfigurer::disable)
+            .logout(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
+    /**
+     * 공개 엔드포인트 전용 필터 체인
+     * - JWT 필터, SecurityContext 저장, 익명 인증, 요청 캐시, 인가 필터를 모두 제외한 경량 체인
+     * - 보안 헤더만 적용하고 바로 컨트롤러로 전달
+     * 
+     * @param http HttpSecurity 객체
+     * @return SecurityFilterChain
+     * @throws Exception 설정 오류 시
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(PUBLIC_ENDPOINTS)
             .csrf(AbstractHttpConfigurer::disable)
-            
-            // H2 Console iframe 허용 (개발용)
             .headers(headers -> headers
                 .frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin)
             )
+            .securityContext(AbstractHttpConfigurer::disable)
+            .sessionManagement(AbstractHttpConfigurer::disable)
+            .requestCache(AbstractHttpConfigurer::disable)
+            .anonymous(AbstractHttpConfigurer::disable)
+            .logout(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
+    /**
+     * Spring Security 필터 체인 설정 (보호된 엔드포인트)
+     * - CSRF 비활성화 (JWT 사용으로 불필요)
+     * - 세션 관리 비활성화 (Stateless)
+     * - JwtAuthenticationFilter로 토큰 클레임만 사용해 인증 (DB 조회 없음)
+     * - request-check=true 면 UserIdentityCache로 계정 상태/역할도 확인 (캐시 미스 시 사용자 조회)
+     * 
+     * @param http HttpSecurity 객체
+     * @param identityCheck 요청마다 계정 상태/역할 확인 여부 (user.identity-cache.request-check)
+     * @return SecurityFilterChain
+     * @throws Exception 설정 오류 시
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            @Value("${user.identity-cache.request-check:false}") boolean identityCheck) throws Exception {
+        http
+            // CSRF 비활성화 (REST API + JWT 사용으로 불필요)
+            .csrf(AbstractHttpConfigurer::disable)
             
             // 세션 관리 비활성화 (JWT 기반 Stateless 인증)
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             
-            // 요청별 접근 권한 설정
+            // 인증 실패 시 ErrorResponse 형식의 401 응답
+            .exceptionHandling(exception -> exception
+                .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+            )
+            
+            // JWT 인증 필터 등록
+            .addFilterBefore(
+                new JwtAuthenticationFilter(jwtTokenProvider, identityCheck ? userIdentityCache : null,
+                        jwtAuthenticationEntryPoint),
+                UsernamePasswordAuthenticationFilter.class
+            )
+            
+            // 공개 엔드포인트는 publicFilterChain에서 처리되므로 그 외 모든 요청은 인증 필요
             .authorizeHttpRequests(auth -> auth
-                // 인증 없이 접근 가능한 엔드포인트
-                .requestMatchers("/api/v1/auth/**").permitAll()  // 로그인, 회원가입 등
-                .requestMatchers("/h2-console/**").permitAll()   // H2 Console (개발용)
-                .requestMatchers("/swagger-ui/**").permitAll()   // Swagger UI
-                .requestMatchers("/v3/api-docs/**").permitAll()  // OpenAPI 문서
-                .requestMatchers("/actuator/health").permitAll() // Health Check
-                // 그 외 모든 요청은 인증 필요
+                .requestMatchers(HttpMethod.POST, "/api/v1/users/bulk").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/v1/users", "/api/v1/users/export").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, PROMETHEUS_ENDPOINT).hasRole("ADMIN")
                 .anyRequest().authenticated()
             );
 
@@ -0,0 +1,134 @@
+package com.reacademix.reacademix_backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 pinning 진단
+ *
+ * JFR 스트림으로 jdk.VirtualThreadPinned 이벤트(가상 스레드가 synchronized 블록이나 네이티브 프레임 안에서
+ * 블로킹되어 캐리어 스레드를 점유한 경우)를 구독하고, 애플리케이션 쪽 첫 프레임 기준으로 호출 위치별 횟수를 집계한다.
+ * JDBC 드라이버, Hibernate, 커넥션 풀 내부의 synchronized 구간이 캐리어 스레드를 오래 붙잡는지 확인하는 용도.
+ *
+ * - 호출 위치별 첫 발생 시 스택 트레이스와 함께 WARN 로그, 이후에는 횟수만 집계
+ * - Java 21 미만에서는 이벤트가 존재하지 않으므로 시작하지 않음
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.virtual-threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** 호출 위치로 보지 않을 프레임 (JDK 내부 동기화/파킹 프레임) */
+    private static final List<String> PLATFORM_PACKAGES = List.of("java.", "jdk.", "sun.");
+
+    /** WARN 로그에 남길 최대 스택 프레임 수 */
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinning-monitor.threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("가상 스레드 pinning 진단 비활성화: Java {} (Java 21 이상 필요)", Runtime.version().feature());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 진단 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+        if (!counts.isEmpty()) {
+            log.info("가상 스레드 pinning 집계: {}", snapshot());
+        }
+    }
+
+    /**
+     * 호출 위치별 pinning 횟수
+     *
+     * @return 호출 위치(클래스.메서드:라인) → 누적 횟수
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((site, count) -> snapshot.put(site, count.sum()));
+        return snapshot;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = callSite(frames);
+
+        LongAdder count = counts.get(site);
+        if (count == null) {
+            LongAdder created = new LongAdder();
+            count = counts.putIfAbsent(site, created);
+            if (count == null) {
+                count = created;
+                log.warn("가상 스레드 pinning 감지: site={}, duration={}ms, thread={}\n{}",
+                        site, event.getDuration().toMillis(),
+                        event.getThread() != null ? event.getThread().getJavaName() : "?",
+                        format(frames));
+            }
+        }
+        count.increment();
+    }
+
+    /**
+     * JDK 내부 프레임을 건너뛴 첫 프레임 (synchronized 를 잡고 있는 라이브러리/애플리케이션 코드)
+     */
+    static String callSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (PLATFORM_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            sb.append("\tat ").append(describe(frames.get(i))).append('\n');
+        }
+        return sb.toString();
+    }
+}
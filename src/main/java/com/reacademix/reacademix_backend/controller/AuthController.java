@@ -1,37 +1,43 @@
 package com.reacademix.reacademix_backend.controller;
 
 import com.reacademix.reacademix_backend.dto.request.LoginRequestDto;
+import com.reacademix.reacademix_backend.dto.request.RefreshTokenRequestDto;
 import com.reacademix.reacademix_backend.dto.response.ApiResponse;
 import com.reacademix.reacademix_backend.dto.response.LoginResponseDto;
+import com.reacademix.reacademix_backend.security.JwtAuthenticationFilter;
+import com.reacademix.reacademix_backend.security.LoginRateLimiter;
 import com.reacademix.reacademix_backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * 인증 관련 REST API Controller
- * 로그인, 로그아웃 등 인증 관련 엔드포인트 제공
+ * 로그인, 토큰 재발급, 로그아웃 등 인증 관련 엔드포인트 제공
  * 
  * @author Backend Team
  * @version 1.0
  */
-@Slf4j
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * 사용자 로그인 API
      * 
      * @param request 로그인 요청 DTO (email, password)
+     * @param httpRequest 클라이언트 IP 확인용 HTTP 요청
      * @return ResponseEntity<ApiResponse<LoginResponseDto>> 로그인 응답
      * 
      * @apiNote
@@ -43,13 +49,15 @@ public class AuthController {
      * @success 200 OK - 로그인 성공, JWT 토큰 및 사용자 정보 반환
      * @error 400 Bad Request - 요청 데이터 검증 실패 (이메일 형식, 비밀번호 길이)
      * @error 401 Unauthorized - 이메일 또는 비밀번호 불일치, 계정 비활성화
+     * @error 429 Too Many Requests - IP 또는 이메일+IP별 로그인 시도 한도 초과 (Retry-After 헤더)
      * @error 500 Internal Server Error - 시스템 오류
      */
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponseDto>> login(
-            @Valid @RequestBody LoginRequestDto request) {
+            @Valid @RequestBody LoginRequestDto request, HttpServletRequest httpRequest) {
 
-        log.info("로그인 요청: {}", request.getEmail());
+        // BCrypt 검증 전에 요청 제한 확인 (초과 시 429, 프록시 뒤에서는 forward-headers-strategy 로 복원된 클라이언트 IP)
+        loginRateLimiter.check(httpRequest.getRemoteAddr(), request.getEmail());
 
         // Service Layer 호출
         LoginResponseDto response = authService.login(request);
@@ -59,5 +67,56 @@ public class AuthController {
                 ApiResponse.success(response, "로그인에 성공했습니다.")
         );
     }
-}
 
+    /**
+     * 토큰 재발급 API
+     * 
+     * @param request 재발급 요청 DTO (refreshToken)
+     * @return ResponseEntity<ApiResponse<LoginResponseDto>> 새 JWT 토큰, 새 리프레시 토큰 및 사용자 정보
+     * 
+     * @apiNote
+     * - HTTP Method: POST
+     * - URI: /api/v1/auth/refresh
+     * - Content-Type: application/json
+     * - 인증 필요: 아니오 (리프레시 토큰으로 인증)
+     * - 사용한 리프레시 토큰은 폐기되므로 응답의 refreshToken 으로 교체해야 한다.
+     * 
+     * @success 200 OK - 재발급 성공
+     * @error 400 Bad Request - 요청 데이터 검증 실패
+     * @error 401 Unauthorized - 리프레시 토큰이 없거나 만료/사용됨 (AUTH_008), 계정 비활성화 (AUTH_004)
+     * @error 500 Internal Server Error - 시스템 오류
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<LoginResponseDto>> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        LoginResponseDto response = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "토큰이 재발급되었습니다.")
+        );
+    }
+
+    /**
+     * 로그아웃 API
+     * 
+     * @param authorization Authorization 헤더 (Bearer JWT 토큰)
+     * @param request 리프레시 토큰 (선택, 전달 시 해당 세션도 삭제)
+     * @return ResponseEntity<ApiResponse<Void>> 로그아웃 응답
+     * 
+     * @apiNote
+     * - HTTP Method: POST
+     * - URI: /api/v1/auth/logout
+     * - 인증 필요: 예 (Authorization: Bearer {token})
+     * - access token 은 만료 시각까지 폐기 저장소에 등록되어 이후 요청은 AUTH_006으로 거부된다.
+     * 
+     * @success 200 OK - 로그아웃 성공
+     * @error 401 Unauthorized - 토큰 없음 (AUTH_001), 만료 (AUTH_005), 유효하지 않거나 이미 폐기됨 (AUTH_006)
+     * @error 500 Internal Server Error - 시스템 오류
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequestDto request) {
+        authService.logout(JwtAuthenticationFilter.resolveToken(authorization),
+                request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok(ApiResponse.success("로그아웃되었습니다."));
+    }
+}
@@ -1,14 +1,31 @@
 package com.reacademix.reacademix_backend.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
 import com.reacademix.reacademix_backend.dto.request.UserSignupRequest;
+import com.reacademix.reacademix_backend.dto.response.BulkUserSummary;
+import com.reacademix.reacademix_backend.dto.response.UserPageResponse;
 import com.reacademix.reacademix_backend.dto.response.UserResponse;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import com.reacademix.reacademix_backend.service.BulkUserReader;
+import com.reacademix.reacademix_backend.service.UserProvisioningService;
 import com.reacademix.reacademix_backend.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 /**
  * User 관련 REST API Controller
  */
@@ -17,7 +34,14 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    /** 목록 페이지 크기 최대값 */
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final UserService userService;
+    private final UserProvisioningService userProvisioningService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 회원가입 API
@@ -29,5 +53,101 @@ public class UserController {
         UserResponse response = userService.signup(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
-}
 
+    /**
+     * 사용자 목록 API (ADMIN 전용, keyset 페이지네이션)
+     * OFFSET 없이 이전 페이지의 마지막 id 이후부터 조회하므로 페이지 깊이와 무관하게 일정한 비용으로 응답한다.
+     * @param status 상태 필터 (선택)
+     * @param role 역할 필터 (선택)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~200, 기본 50)
+     * @return ResponseEntity<UserPageResponse> 사용자 목록과 다음 커서
+     */
+    @GetMapping
+    public ResponseEntity<UserPageResponse> listUsers(
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return ResponseEntity.ok(userService.listUsers(status, role, cursor, pageSize));
+    }
+
+    /**
+     * 사용자 전체 내보내기 API (ADMIN 전용)
+     * DB 커서에서 읽는 대로 한 줄에 한 명씩 NDJSON 으로 기록하므로 사용자 수와 무관하게 힙 사용량이 일정하다.
+     * @param status 상태 필터 (선택)
+     * @param role 역할 필터 (선택)
+     * @param response 사용자 목록을 스트리밍으로 기록할 응답 (application/x-ndjson)
+     * @throws IOException 응답 스트림 오류 시
+     */
+    @GetMapping("/export")
+    public void exportUsers(
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) UserRole role,
+            HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (SequenceWriter writer = objectMapper.writerFor(UserProfile.class)
+                .withRootValueSeparator("\n")
+                .writeValues(response.getOutputStream())) {
+            userService.exportUsers(status, role, user -> {
+                try {
+                    writer.write(user);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 대량 사용자 등록 API (ADMIN 전용)
+     * 요청 본문을 스트리밍으로 읽고, 행별 결과를 처리되는 대로 응답에 기록한다.
+     *
+     * 응답 형식: {"success":true,"data":{"results":[{row,email,status,userId,message}...],"summary":{...}}}
+     *
+     * @param request text/csv (헤더: email,password,name[,role]) 또는 application/json (객체 배열)
+     * @param response 행별 결과를 스트리밍으로 기록할 응답
+     * @throws IOException 요청/응답 스트림 오류 시
+     * @throws IllegalArgumentException CSV 헤더 또는 JSON 배열 형식이 잘못된 경우 (400)
+     */
+    @PostMapping(value = "/bulk", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public void bulkProvision(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // 형식 오류는 응답을 쓰기 전에 판단하여 400으로 응답
+        try (BulkUserReader reader = isCsv(request.getContentType())
+                ? BulkUserReader.csv(request.getInputStream())
+                : BulkUserReader.json(request.getInputStream(), objectMapper)) {
+
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeObjectFieldStart("data");
+                generator.writeArrayFieldStart("results");
+
+                BulkUserSummary summary = userProvisioningService.provision(reader, result -> {
+                    try {
+                        generator.writeObject(result);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                generator.writeEndArray();
+                generator.writeObjectField("summary", summary);
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    private static boolean isCsv(String contentType) {
+        return contentType != null && contentType.regionMatches(true, 0, TEXT_CSV_VALUE, 0, TEXT_CSV_VALUE.length());
+    }
+}
@@ -0,0 +1,44 @@
+package com.reacademix.reacademix_backend.domain.token;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * RefreshToken 엔티티
+ * 리프레시 토큰 세션 (원문 대신 SHA-256 해시만 저장, 재발급 시 삭제 후 새 행 발급)
+ * 발급 후 변경되지 않으므로 BaseTimeEntity(updated_at)를 사용하지 않음
+ */
+@Entity
+@Table(name = "refresh_tokens")  // 스키마/인덱스: db/migration
+@Getter
+@NoArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", length = 32, nullable = false, unique = true)
+    private byte[] tokenHash;  // SHA-256(리프레시 토큰)
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public RefreshToken(byte[] tokenHash, Long userId, LocalDateTime expiresAt, LocalDateTime createdAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt;
+    }
+}
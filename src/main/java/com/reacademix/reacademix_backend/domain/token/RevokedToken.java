@@ -0,0 +1,55 @@
+package com.reacademix.reacademix_backend.domain.token;
+
+import com.reacademix.reacademix_backend.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * RevokedToken 엔티티
+ * 폐기(로그아웃)된 JWT 토큰 ID를 저장하여 여러 노드가 공유
+ * createdAt = 폐기 시각 (노드 간 동기화 기준)
+ * ID를 직접 지정하므로 Persistable 로 새 엔티티임을 알려 save 시 사전 SELECT(merge) 없이 INSERT 한다.
+ */
+@Entity
+@Table(name = "revoked_tokens")  // 스키마/인덱스: db/migration
+@Getter
+@NoArgsConstructor
+public class RevokedToken extends BaseTimeEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;  // JWT jti 클레임
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    private boolean persisted;
+
+    @Builder
+    public RevokedToken(String tokenId, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return tokenId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -11,11 +11,7 @@ import lombok.NoArgsConstructor;
  * 사용자 기본 정보를 저장하는 JPA 엔티티
  */
 @Entity
-@Table(name = "users", indexes = {
-    @Index(name = "idx_users_email", columnList = "email"),
-    @Index(name = "idx_users_status", columnList = "status"),
-    @Index(name = "idx_users_role", columnList = "role")
-})
+@Table(name = "users")  // 스키마/인덱스: db/migration
 @Getter
 @NoArgsConstructor
 public class User extends BaseTimeEntity {
@@ -49,5 +45,20 @@ public class User extends BaseTimeEntity {
         this.role = role != null ? role : UserRole.ADMIN;
         this.status = status != null ? status : UserStatus.ACTIVE;
     }
-}
 
+    /**
+     * 계정 상태 변경 (커밋 후 UserIdentityCache 무효화 대상)
+     * @param status 새 계정 상태
+     */
+    public void changeStatus(UserStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * 역할 변경 (커밋 후 UserIdentityCache 무효화 대상)
+     * @param role 새 역할
+     */
+    public void changeRole(UserRole role) {
+        this.role = role;
+    }
+}
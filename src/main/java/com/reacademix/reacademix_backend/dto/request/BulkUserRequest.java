@@ -0,0 +1,41 @@
+package com.reacademix.reacademix_backend.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 사용자 등록 요청의 한 행
+ * CSV 한 줄(email,password,name[,role]) 또는 JSON 배열의 원소 하나에 대응
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserRequest {
+
+    @NotBlank(message = "이메일은 필수입니다.")
+    @Email(message = "올바른 이메일 형식이 아닙니다.")
+    @Size(max = 255, message = "이메일은 최대 255자까지 입력 가능합니다.")
+    private String email;
+
+    @NotBlank(message = "비밀번호는 필수입니다.")
+    @Size(min = 8, max = 128, message = "비밀번호는 8자 이상 128자 이하여야 합니다.")
+    private String password;
+
+    @NotBlank(message = "이름은 필수입니다.")
+    @Size(min = 2, max = 100, message = "이름은 2자 이상 100자 이하여야 합니다.")
+    private String name;
+
+    /** 사용자 역할 (생략 시 ADMIN) */
+    @Pattern(regexp = "ADMIN|MANAGER|STAFF", message = "역할은 ADMIN, MANAGER, STAFF 중 하나여야 합니다.")
+    private String role;
+}
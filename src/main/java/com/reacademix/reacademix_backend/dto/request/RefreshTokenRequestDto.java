@@ -0,0 +1,26 @@
+package com.reacademix.reacademix_backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 재발급 요청 DTO
+ * 로그인(또는 직전 재발급) 응답으로 받은 리프레시 토큰을 전달
+ * 
+ * @author Backend Team
+ * @version 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequestDto {
+
+    @NotBlank(message = "리프레시 토큰은 필수입니다.")
+    @Size(max = 128, message = "리프레시 토큰 형식이 올바르지 않습니다.")
+    private String refreshToken;
+}
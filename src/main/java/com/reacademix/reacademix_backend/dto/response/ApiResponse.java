@@ -1,6 +1,7 @@
 package com.reacademix.reacademix_backend.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 /**
  * API 표준 응답 DTO
  * 모든 API 응답을 일관된 형식으로 래핑
+ * 직렬화는 ApiResponseSerializer 가 담당 (필드 순서/NON_NULL 규칙 동일)
  * 
  * @param <T> 응답 데이터 타입
  * @author Backend Team
@@ -19,6 +21,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = ApiResponseSerializer.class)
 public class ApiResponse<T> {
 
     /** 요청 성공 여부 */
@@ -0,0 +1,65 @@
+package com.reacademix.reacademix_backend.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ApiResponse 전용 JSON Serializer
+ *
+ * 리플렉션 기반 BeanSerializer 대신 필드를 고정 순서로 직접 기록한다. (success, data, message, null 제외)
+ * - 필드 이름은 미리 인코딩된 SerializedString 사용
+ * - message 는 대부분 컨트롤러의 상수 문자열이므로 인코딩된 UTF-8 byte 를 캐시
+ * - data 는 런타임 타입의 Serializer 로 위임 (Jackson이 타입별로 캐시)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+
+    /** 상수 메시지만 캐시되도록 크기 제한 (동적 메시지가 들어와도 무한히 커지지 않음) */
+    private static final int MAX_CACHED_MESSAGES = 256;
+    private static final ConcurrentMap<String, SerializedString> MESSAGES = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public ApiResponseSerializer() {
+        super((Class<ApiResponse<?>>) (Class<?>) ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+        if (value.getData() != null) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(value.getData(), gen);
+        }
+        if (value.getMessage() != null) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(serializedMessage(value.getMessage()));
+        }
+        gen.writeEndObject();
+    }
+
+    private static SerializedString serializedMessage(String message) {
+        SerializedString cached = MESSAGES.get(message);
+        if (cached != null) {
+            return cached;
+        }
+        SerializedString serialized = new SerializedString(message);
+        if (MESSAGES.size() < MAX_CACHED_MESSAGES) {
+            MESSAGES.putIfAbsent(message, serialized);
+        }
+        return serialized;
+    }
+}
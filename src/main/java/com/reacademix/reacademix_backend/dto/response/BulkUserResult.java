@@ -0,0 +1,39 @@
+package com.reacademix.reacademix_backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 사용자 등록 결과 (행 단위)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkUserResult {
+
+    /** 입력 행 번호 (1부터, CSV 헤더 제외) */
+    private final long row;
+
+    /** 정규화된 이메일 */
+    private final String email;
+
+    /** 처리 결과 */
+    private final Status status;
+
+    /** 생성된 사용자 ID (CREATED 인 경우) */
+    private final Long userId;
+
+    /** 실패 사유 (CREATED 가 아닌 경우) */
+    private final String message;
+
+    public enum Status {
+        CREATED,    // 생성됨
+        DUPLICATE,  // 이미 등록되었거나 요청 내에서 중복된 이메일
+        INVALID,    // 입력 검증 실패
+        FAILED      // 해시/저장 중 오류
+    }
+}
@@ -0,0 +1,33 @@
+package com.reacademix.reacademix_backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 사용자 등록 요약
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class BulkUserSummary {
+
+    /** 처리한 행 수 */
+    private final long total;
+
+    /** 생성된 사용자 수 */
+    private final long created;
+
+    /** 중복으로 건너뛴 행 수 */
+    private final long duplicate;
+
+    /** 검증 실패 행 수 */
+    private final long invalid;
+
+    /** 해시/저장 실패 행 수 */
+    private final long failed;
+
+    /** 입력을 끝까지 읽지 못하고 중단되었는지 여부 (형식 오류 등) */
+    private final boolean aborted;
+}
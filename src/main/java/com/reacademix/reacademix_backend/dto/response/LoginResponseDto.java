@@ -1,5 +1,6 @@
 package com.reacademix.reacademix_backend.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,7 +8,8 @@ import lombok.NoArgsConstructor;
 
 /**
  * 로그인 응답 DTO
- * 로그인 성공 시 JWT 토큰과 사용자 정보를 반환
+ * 로그인/토큰 재발급 성공 시 JWT 토큰, 리프레시 토큰과 사용자 정보를 반환
+ * 직렬화는 LoginResponseSerializer 가 담당
  * 
  * @author Backend Team
  * @version 1.0
@@ -16,6 +18,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = LoginResponseSerializer.class)
 public class LoginResponseDto {
 
     /** JWT 토큰 */
@@ -24,8 +27,14 @@ public class LoginResponseDto {
     /** 토큰 타입 (항상 "Bearer") */
     private String tokenType;
     
-    /** 토큰 만료 시간 (초 단위, 기본 86400 = 24시간) */
+    /** 토큰 만료 시간 (초 단위, 기본 900 = 15분) */
     private Long expiresIn;
+
+    /** 리프레시 토큰 (1회용, 재발급 시 새 토큰으로 교체) */
+    private String refreshToken;
+
+    /** 리프레시 토큰 만료 시간 (초 단위, 기본 1209600 = 14일) */
+    private Long refreshExpiresIn;
     
     /** 사용자 정보 */
     private UserInfo user;
@@ -0,0 +1,90 @@
+package com.reacademix.reacademix_backend.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * LoginResponseDto 전용 JSON Serializer
+ *
+ * 로그인 응답은 가장 자주 직렬화되는 응답이므로 필드를 고정 순서로 직접 기록한다.
+ * (token, tokenType, expiresIn, refreshToken, refreshExpiresIn, user{userId, email, name}, null 값도 기존과 같이 기록)
+ * tokenType 은 항상 "Bearer" 이므로 인코딩된 byte 를 재사용한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public class LoginResponseSerializer extends StdSerializer<LoginResponseDto> {
+
+    private static final SerializedString TOKEN = new SerializedString("token");
+    private static final SerializedString TOKEN_TYPE = new SerializedString("tokenType");
+    private static final SerializedString EXPIRES_IN = new SerializedString("expiresIn");
+    private static final SerializedString REFRESH_TOKEN = new SerializedString("refreshToken");
+    private static final SerializedString REFRESH_EXPIRES_IN = new SerializedString("refreshExpiresIn");
+    private static final SerializedString USER = new SerializedString("user");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final String BEARER = "Bearer";
+    private static final SerializedString BEARER_VALUE = new SerializedString(BEARER);
+
+    public LoginResponseSerializer() {
+        super(LoginResponseDto.class);
+    }
+
+    @Override
+    public void serialize(LoginResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(TOKEN);
+        writeString(gen, value.getToken());
+        gen.writeFieldName(TOKEN_TYPE);
+        if (BEARER.equals(value.getTokenType())) {
+            gen.writeString(BEARER_VALUE);
+        } else {
+            writeString(gen, value.getTokenType());
+        }
+        gen.writeFieldName(EXPIRES_IN);
+        writeNumber(gen, value.getExpiresIn());
+        gen.writeFieldName(REFRESH_TOKEN);
+        writeString(gen, value.getRefreshToken());
+        gen.writeFieldName(REFRESH_EXPIRES_IN);
+        writeNumber(gen, value.getRefreshExpiresIn());
+        gen.writeFieldName(USER);
+        writeUser(gen, value.getUser());
+        gen.writeEndObject();
+    }
+
+    private static void writeUser(JsonGenerator gen, LoginResponseDto.UserInfo user) throws IOException {
+        if (user == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(user);
+        gen.writeFieldName(USER_ID);
+        writeNumber(gen, user.getUserId());
+        gen.writeFieldName(EMAIL);
+        writeString(gen, user.getEmail());
+        gen.writeFieldName(NAME);
+        writeString(gen, user.getName());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, String value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
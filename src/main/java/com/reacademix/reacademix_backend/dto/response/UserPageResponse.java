@@ -0,0 +1,27 @@
+package com.reacademix.reacademix_backend.dto.response;
+
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 목록 페이지 응답 (keyset 페이지네이션)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class UserPageResponse {
+
+    /** id 오름차순 사용자 목록 */
+    private final List<UserProfile> users;
+
+    /** 다음 페이지 요청 시 cursor 로 전달할 값 (마지막 페이지면 null) */
+    private final Long nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private final boolean hasNext;
+}
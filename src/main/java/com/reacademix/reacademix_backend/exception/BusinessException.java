@@ -0,0 +1,26 @@
+package com.reacademix.reacademix_backend.exception;
+
+import lombok.Getter;
+
+/**
+ * 비즈니스 규칙 위반 예외
+ * 중복 리소스 등 인증 외의 도메인 오류 시 발생하며, ErrorCode의 HTTP 상태로 응답
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Getter
+public class BusinessException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public BusinessException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public BusinessException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode.getMessage(), cause);
+        this.errorCode = errorCode;
+    }
+}
@@ -22,6 +22,7 @@ public enum ErrorCode {
     AUTH_004("AUTH_004", "계정이 비활성화되었습니다.", HttpStatus.UNAUTHORIZED),
     AUTH_005("AUTH_005", "토큰이 만료되었습니다.", HttpStatus.UNAUTHORIZED),
     AUTH_006("AUTH_006", "유효하지 않은 토큰입니다.", HttpStatus.UNAUTHORIZED),
+    AUTH_008("AUTH_008", "유효하지 않거나 만료된 리프레시 토큰입니다.", HttpStatus.UNAUTHORIZED),
     
     // 검증 관련 에러 (VALIDATION_XXX) - 400 Bad Request
     VALIDATION_001("VALIDATION_001", "입력 데이터 검증에 실패했습니다.", HttpStatus.BAD_REQUEST),
@@ -32,10 +33,19 @@ public enum ErrorCode {
     RESOURCE_001("RESOURCE_001", "요청한 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     RESOURCE_002("RESOURCE_002", "사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     
+    // 리소스 충돌 에러 - 409 Conflict
+    RESOURCE_003("RESOURCE_003", "이미 등록된 이메일입니다.", HttpStatus.CONFLICT),
+    
+    // 요청 제한 에러 - 429 Too Many Requests
+    AUTH_007("AUTH_007", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    
     // 시스템 에러 (SYSTEM_XXX) - 500 Internal Server Error
     SYSTEM_001("SYSTEM_001", "시스템 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.INTERNAL_SERVER_ERROR),
     SYSTEM_002("SYSTEM_002", "데이터베이스 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
-    SYSTEM_003("SYSTEM_003", "토큰 생성에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    SYSTEM_003("SYSTEM_003", "토큰 생성에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    
+    // 과부하 에러 - 503 Service Unavailable
+    SYSTEM_004("SYSTEM_004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String code;
     private final String message;
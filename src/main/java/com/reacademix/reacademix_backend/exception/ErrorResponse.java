@@ -1,9 +1,12 @@
 package com.reacademix.reacademix_backend.exception;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reacademix.reacademix_backend.common.CachedClock;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,9 +21,13 @@ import java.util.List;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ErrorResponse {
-    
+
+    /** timestamp 직렬화 형식 (밀리초 고정 3자리, ErrorResponseWriter 와 공유) */
+    public static final String TIMESTAMP_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+
     private final boolean success;
     private final Error error;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = TIMESTAMP_PATTERN)
     private final LocalDateTime timestamp;
 
     @Getter
@@ -52,16 +59,17 @@ public class ErrorResponse {
      * ErrorCode로부터 ErrorResponse 생성
      * 
      * @param errorCode 에러 코드
+     * @param clock timestamp 기준 Clock
      * @return ErrorResponse 인스턴스
      */
-    public static ErrorResponse of(ErrorCode errorCode) {
+    public static ErrorResponse of(ErrorCode errorCode, Clock clock) {
         return ErrorResponse.builder()
                 .success(false)
                 .error(Error.builder()
                         .code(errorCode.getCode())
                         .message(errorCode.getMessage())
                         .build())
-                .timestamp(LocalDateTime.now())
+                .timestamp(CachedClock.localDateTime(clock))
                 .build();
     }
 
@@ -70,9 +78,10 @@ public class ErrorResponse {
      * 
      * @param errorCode 에러 코드
      * @param details 에러 상세 정보
+     * @param clock timestamp 기준 Clock
      * @return ErrorResponse 인스턴스
      */
-    public static ErrorResponse of(ErrorCode errorCode, ErrorDetails details) {
+    public static ErrorResponse of(ErrorCode errorCode, ErrorDetails details, Clock clock) {
         return ErrorResponse.builder()
                 .success(false)
                 .error(Error.builder()
@@ -80,7 +89,7 @@ public class ErrorResponse {
                         .message(errorCode.getMessage())
                         .details(details)
                         .build())
-                .timestamp(LocalDateTime.now())
+                .timestamp(CachedClock.localDateTime(clock))
                 .build();
     }
 
@@ -89,9 +98,10 @@ public class ErrorResponse {
      * 
      * @param errorCode 에러 코드
      * @param fieldErrors 필드 에러 목록
+     * @param clock timestamp 기준 Clock
      * @return ErrorResponse 인스턴스
      */
-    public static ErrorResponse ofValidation(ErrorCode errorCode, List<FieldError> fieldErrors) {
+    public static ErrorResponse ofValidation(ErrorCode errorCode, List<FieldError> fieldErrors, Clock clock) {
         return ErrorResponse.builder()
                 .success(false)
                 .error(Error.builder()
@@ -101,8 +111,7 @@ public class ErrorResponse {
                                 .errors(fieldErrors)
                                 .build())
                         .build())
-                .timestamp(LocalDateTime.now())
+                .timestamp(CachedClock.localDateTime(clock))
                 .build();
     }
 }
-
@@ -0,0 +1,124 @@
+package com.reacademix.reacademix_backend.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode별 에러 응답을 미리 직렬화해 두고 바로 응답에 쓰는 Writer
+ *
+ * ErrorResponse.of(errorCode, clock) 의 JSON 중 timestamp 를 제외한 부분은 ErrorCode마다 고정이므로
+ * 기동 시 한 번만 Jackson으로 직렬화해 byte[] 로 보관하고, 요청마다 timestamp 만 끼워 넣는다.
+ * - 응답 형식은 ErrorResponse.of(errorCode, clock) 와 동일 ({"success":false,"error":{...},"timestamp":"..."})
+ * - timestamp 는 ErrorResponse.TIMESTAMP_PATTERN(밀리초) 형식으로, 같은 밀리초 안의 응답은 같은 byte[] 를 재사용
+ * - ErrorCode별 응답 수를 api.errors 카운터(code, status 태그)로 집계 (GlobalExceptionHandler, 필터 단계 401 모두 포함)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final byte[] TIMESTAMP_SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern(ErrorResponse.TIMESTAMP_PATTERN);
+
+    private final Map<ErrorCode, byte[]> prefixes = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+    private final Clock clock;
+    private final ZoneId zoneId;
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(Long.MIN_VALUE, new byte[0]);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper, Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.zoneId = clock.getZone();
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            prefixes.put(errorCode, prefix(objectMapper, errorCode));
+            errorCounters.put(errorCode, Counter.builder("api.errors")
+                    .description("ErrorCode별 에러 응답 수")
+                    .tag("code", errorCode.getCode())
+                    .tag("status", Integer.toString(errorCode.getHttpStatus().value()))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 에러 응답 수 집계 (ErrorResponse 를 직접 직렬화하는 경로용, write 는 자동 집계)
+     *
+     * @param errorCode 에러 코드
+     */
+    public void count(ErrorCode errorCode) {
+        errorCounters.get(errorCode).increment();
+    }
+
+    /**
+     * timestamp 를 제외한 JSON 앞부분 생성: {"success":false,"error":{...},"timestamp":"
+     */
+    private static byte[] prefix(ObjectMapper objectMapper, ErrorCode errorCode) {
+        ErrorResponse withoutTimestamp = ErrorResponse.builder()
+                .success(false)
+                .error(ErrorResponse.Error.builder()
+                        .code(errorCode.getCode())
+                        .message(errorCode.getMessage())
+                        .build())
+                .build();
+        try {
+            String json = objectMapper.writeValueAsString(withoutTimestamp);
+            return (json.substring(0, json.length() - 1) + ",\"timestamp\":\"").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 직렬화 실패: " + errorCode.getCode(), e);
+        }
+    }
+
+    /**
+     * 에러 코드에 해당하는 에러 응답 작성
+     *
+     * @param response HTTP 응답
+     * @param errorCode 에러 코드
+     * @throws IOException 응답 작성 실패 시
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        count(errorCode);
+        byte[] prefix = prefixes.get(errorCode);
+        byte[] timestamp = timestamp(clock.millis());
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(prefix.length + timestamp.length + TIMESTAMP_SUFFIX.length);
+
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(prefix);
+        outputStream.write(timestamp);
+        outputStream.write(TIMESTAMP_SUFFIX);
+    }
+
+    private byte[] timestamp(long epochMillis) {
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.epochMillis != epochMillis) {
+            String formatted = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId)
+                    .format(TIMESTAMP_FORMATTER);
+            cached = new CachedTimestamp(epochMillis, formatted.getBytes(StandardCharsets.US_ASCII));
+            cachedTimestamp = cached;
+        }
+        return cached.bytes;
+    }
+
+    private record CachedTimestamp(long epochMillis, byte[] bytes) {
+    }
+}
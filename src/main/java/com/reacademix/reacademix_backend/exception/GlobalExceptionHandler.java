@@ -1,17 +1,23 @@
 package com.reacademix.reacademix_backend.exception;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.io.IOException;
+import java.time.Clock;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * 전역 예외 처리 Handler
  * 애플리케이션에서 발생하는 모든 예외를 일관된 형식으로 처리
+ * ErrorCode별 발생 건수는 ErrorResponseWriter 의 api.errors 카운터(code, status 태그)로 집계
  * 
  * @author Backend Team
  * @version 1.0
@@ -20,20 +26,57 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+    private final SampledErrorLogger sampledErrorLogger;
+    private final Clock clock;
+
+    public GlobalExceptionHandler(ErrorResponseWriter errorResponseWriter, SampledErrorLogger sampledErrorLogger,
+                                  Clock clock) {
+        this.errorResponseWriter = errorResponseWriter;
+        this.sampledErrorLogger = sampledErrorLogger;
+        this.clock = clock;
+    }
+
     /**
      * AuthException 처리 (인증 관련 에러)
+     * 로그인 실패가 대량으로 발생해도 부담이 없도록 미리 직렬화된 응답을 바로 쓰고 로그는 샘플링한다.
      * 
      * @param e AuthException
-     * @return ResponseEntity<ErrorResponse>
+     * @param response HTTP 응답
+     * @throws IOException 응답 작성 실패 시
      */
     @ExceptionHandler(AuthException.class)
-    public ResponseEntity<ErrorResponse> handleAuthException(AuthException e) {
-        log.warn("인증 에러 발생: {} - {}", e.getErrorCode().getCode(), e.getMessage());
-        
-        ErrorResponse response = ErrorResponse.of(e.getErrorCode());
-        return ResponseEntity
-                .status(e.getErrorCode().getHttpStatus())
-                .body(response);
+    public void handleAuthException(AuthException e, HttpServletResponse response) throws IOException {
+        sampledErrorLogger.record(e.getErrorCode(), e.getMessage());
+        errorResponseWriter.write(response, e.getErrorCode());
+    }
+
+    /**
+     * RateLimitException 처리 (로그인 요청 제한 초과)
+     * 미리 직렬화된 429 응답에 Retry-After 헤더만 추가한다.
+     * 
+     * @param e RateLimitException
+     * @param response HTTP 응답
+     * @throws IOException 응답 작성 실패 시
+     */
+    @ExceptionHandler(RateLimitException.class)
+    public void handleRateLimitException(RateLimitException e, HttpServletResponse response) throws IOException {
+        sampledErrorLogger.record(e.getErrorCode(), e.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()));
+        errorResponseWriter.write(response, e.getErrorCode());
+    }
+
+    /**
+     * BusinessException 처리 (중복 리소스 등 비즈니스 규칙 위반)
+     * 
+     * @param e BusinessException
+     * @param response HTTP 응답
+     * @throws IOException 응답 작성 실패 시
+     */
+    @ExceptionHandler(BusinessException.class)
+    public void handleBusinessException(BusinessException e, HttpServletResponse response) throws IOException {
+        sampledErrorLogger.record(e.getErrorCode(), e.getMessage());
+        errorResponseWriter.write(response, e.getErrorCode());
     }
 
     /**
@@ -45,6 +88,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
+        errorResponseWriter.count(ErrorCode.VALIDATION_001);
         log.warn("검증 에러 발생: {}", e.getMessage());
 
         // 필드 에러 목록 생성
@@ -57,7 +101,30 @@ public class GlobalExceptionHandler {
                         .build())
                 .collect(Collectors.toList());
 
-        ErrorResponse response = ErrorResponse.ofValidation(ErrorCode.VALIDATION_001, fieldErrors);
+        ErrorResponse response = ErrorResponse.ofValidation(ErrorCode.VALIDATION_001, fieldErrors, clock);
+        return ResponseEntity
+                .status(ErrorCode.VALIDATION_001.getHttpStatus())
+                .body(response);
+    }
+
+    /**
+     * MethodArgumentTypeMismatchException 처리 (요청 파라미터 타입 변환 실패)
+     * 정의되지 않은 enum 값(status=UNKNOWN 등)이나 숫자가 아닌 값이 전달된 경우 발생
+     * 
+     * @param e MethodArgumentTypeMismatchException
+     * @return ResponseEntity<ErrorResponse>
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        errorResponseWriter.count(ErrorCode.VALIDATION_001);
+        log.warn("요청 파라미터 타입 불일치: {}={}", e.getName(), e.getValue());
+
+        ErrorResponse response = ErrorResponse.of(ErrorCode.VALIDATION_001,
+                ErrorResponse.ErrorDetails.builder()
+                        .field(e.getName())
+                        .rejectedValue(e.getValue())
+                        .build(),
+                clock);
         return ResponseEntity
                 .status(ErrorCode.VALIDATION_001.getHttpStatus())
                 .body(response);
@@ -71,9 +138,10 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        errorResponseWriter.count(ErrorCode.VALIDATION_001);
         log.warn("잘못된 인자 에러 발생: {}", e.getMessage());
         
-        ErrorResponse response = ErrorResponse.of(ErrorCode.VALIDATION_001);
+        ErrorResponse response = ErrorResponse.of(ErrorCode.VALIDATION_001, clock);
         return ResponseEntity
                 .status(ErrorCode.VALIDATION_001.getHttpStatus())
                 .body(response);
@@ -87,9 +155,10 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        errorResponseWriter.count(ErrorCode.SYSTEM_001);
         log.error("시스템 에러 발생: {}", e.getMessage(), e);
         
-        ErrorResponse response = ErrorResponse.of(ErrorCode.SYSTEM_001);
+        ErrorResponse response = ErrorResponse.of(ErrorCode.SYSTEM_001, clock);
         return ResponseEntity
                 .status(ErrorCode.SYSTEM_001.getHttpStatus())
                 .body(response);
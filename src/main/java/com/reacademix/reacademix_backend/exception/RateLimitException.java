@@ -0,0 +1,22 @@
+package com.reacademix.reacademix_backend.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 제한 초과 예외 (AUTH_007, 429)
+ * 응답의 Retry-After 헤더로 전달할 대기 시간을 함께 보관
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Getter
+public class RateLimitException extends AuthException {
+
+    /** 다음 요청이 허용될 때까지 남은 시간 (초, 올림) */
+    private final long retryAfterSeconds;
+
+    public RateLimitException(long retryAfterSeconds) {
+        super(ErrorCode.AUTH_007);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,84 @@
+package com.reacademix.reacademix_backend.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 에러 응답 로그 샘플링/집계
+ *
+ * 크리덴셜 스터핑처럼 같은 에러가 대량으로 발생할 때 건마다 WARN 로그를 남기지 않도록
+ * 집계 주기마다 ErrorCode별 첫 건만 상세 로그로 남기고, 나머지는 건수만 세어 주기적으로 요약한다.
+ * 구조화 로그(JSON)에서 검색할 수 있도록 event, code 를 키-값 쌍으로 함께 남긴다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SampledErrorLogger {
+
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+
+    private final LongAdder[] counts = new LongAdder[ERROR_CODES.length];
+
+    /** 현재 집계 주기에 상세 로그를 남겼는지 여부 (ErrorCode.ordinal 기준, 1이면 남김) */
+    private final AtomicIntegerArray sampled = new AtomicIntegerArray(ERROR_CODES.length);
+
+    public SampledErrorLogger() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 에러 발생 기록
+     *
+     * @param errorCode 에러 코드
+     * @param detail 상세 메시지 (집계 주기의 첫 건만 로그에 남음)
+     */
+    public void record(ErrorCode errorCode, String detail) {
+        int index = errorCode.ordinal();
+        counts[index].increment();
+        if (sampled.get(index) == 0 && sampled.compareAndSet(index, 0, 1)) {
+            log.atWarn()
+                    .addKeyValue("event", "error.sampled")
+                    .addKeyValue("code", errorCode.getCode())
+                    .log("에러 발생: {} - {} (이후 동일 코드는 집계 로그로 요약)", errorCode.getCode(), detail);
+        }
+    }
+
+    /**
+     * 집계 주기마다 ErrorCode별 발생 건수 요약 로그 출력 후 초기화
+     */
+    @Scheduled(fixedDelayString = "${error.log.summary-interval-ms:60000}")
+    public void flush() {
+        StringBuilder summary = null;
+        for (int i = 0; i < ERROR_CODES.length; i++) {
+            long count = counts[i].sumThenReset();
+            sampled.set(i, 0);
+            if (count > 0) {
+                summary = summary == null ? new StringBuilder() : summary.append(", ");
+                summary.append(ERROR_CODES[i].getCode()).append('=').append(count);
+            }
+        }
+        if (summary != null) {
+            log.atWarn()
+                    .addKeyValue("event", "error.summary")
+                    .log("에러 발생 집계: {}", summary);
+        }
+    }
+
+    /**
+     * 현재 집계 주기의 발생 건수 (모니터링/테스트용)
+     *
+     * @param errorCode 에러 코드
+     * @return 발생 건수
+     */
+    public long getCount(ErrorCode errorCode) {
+        return counts[errorCode.ordinal()].sum();
+    }
+}
@@ -0,0 +1,66 @@
+package com.reacademix.reacademix_backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 검증 실패 JFR 이벤트
+ * 실패 원인(만료, 서명 불일치, 형식 오류, 클레임 오류 등)별로 기록하여 401 급증 시 원인을 구분한다.
+ * 이벤트 시간은 파싱/서명 검증에 걸린 시간.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Name(JwtParseFailureEvent.NAME)
+@Label("JWT Parse Failure")
+@Category({"ReAcademix", "Auth"})
+@Description("JwtTokenProvider 토큰 검증 실패")
+@StackTrace(false)
+public class JwtParseFailureEvent extends Event {
+
+    public static final String NAME = "com.reacademix.JwtParseFailure";
+
+    public static final String EXPIRED = "EXPIRED";
+    public static final String SIGNATURE = "SIGNATURE";
+    public static final String MALFORMED = "MALFORMED";
+    public static final String UNSUPPORTED = "UNSUPPORTED";
+    public static final String EMPTY = "EMPTY";
+    public static final String CLAIMS = "CLAIMS";
+    public static final String OTHER = "OTHER";
+
+    @Label("Cause")
+    private String cause;
+
+    @Label("Error Code")
+    private String errorCode;
+
+    /**
+     * 검증 시작
+     *
+     * @return 시작된 이벤트
+     */
+    public static JwtParseFailureEvent start() {
+        JwtParseFailureEvent event = new JwtParseFailureEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 실패 원인과 함께 기록
+     *
+     * @param cause 실패 원인
+     * @param errorCode 응답 에러 코드
+     */
+    public void fail(String cause, String errorCode) {
+        end();
+        if (shouldCommit()) {
+            this.cause = cause;
+            this.errorCode = errorCode;
+            commit();
+        }
+    }
+}
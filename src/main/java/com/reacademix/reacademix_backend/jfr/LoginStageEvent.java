@@ -0,0 +1,74 @@
+package com.reacademix.reacademix_backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 로그인 파이프라인 단계별 소요 시간 JFR 이벤트
+ * AuthService.login 의 각 단계(조회, 상태 확인, 비밀번호 검증, 토큰 발급)를 하나씩 기록한다.
+ *
+ * 기록 중이 아니면 begin/end/commit 은 isEnabled 확인만 하고 끝나며,
+ * 이벤트 객체는 탈출하지 않으므로 JIT 가 할당을 제거한다.
+ * 기본 임계값 10ms (JfrContinuousRecording 의 app.jfr.login-stage-threshold-ms 또는 .jfc 설정으로 변경 가능)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Name(LoginStageEvent.NAME)
+@Label("Login Stage")
+@Category({"ReAcademix", "Auth"})
+@Description("AuthService.login 단계별 소요 시간")
+@StackTrace(false)
+@Threshold("10 ms")
+public class LoginStageEvent extends Event {
+
+    public static final String NAME = "com.reacademix.LoginStage";
+
+    public static final String LOOKUP = "LOOKUP";
+    public static final String STATUS_CHECK = "STATUS_CHECK";
+    public static final String PASSWORD_VERIFY = "PASSWORD_VERIFY";
+    public static final String TOKEN_ISSUE = "TOKEN_ISSUE";
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Failed")
+    @Description("해당 단계에서 로그인이 실패(예외)했는지 여부")
+    private boolean failed;
+
+    /**
+     * 단계 시작
+     *
+     * @param stage 단계 이름 (LOOKUP, STATUS_CHECK, PASSWORD_VERIFY, TOKEN_ISSUE)
+     * @return 시작된 이벤트
+     */
+    public static LoginStageEvent start(String stage) {
+        LoginStageEvent event = new LoginStageEvent();
+        event.stage = stage;
+        event.failed = true;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 단계 정상 완료 표시 (finish 전에 호출하지 않으면 실패로 기록)
+     */
+    public void succeeded() {
+        this.failed = false;
+    }
+
+    /**
+     * 단계 종료 후 임계값 이상이면 기록
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
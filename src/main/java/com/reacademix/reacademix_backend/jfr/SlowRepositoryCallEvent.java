@@ -0,0 +1,42 @@
+package com.reacademix.reacademix_backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 느린 Repository(JPA) 호출 JFR 이벤트
+ * Spring Data Repository 메서드 호출 시간이 app.jfr.slow-repository-threshold-ms 이상이면 기록한다.
+ * 호출이 끝난 뒤 기록하므로 이벤트 시간 대신 callDuration 필드에 소요 시간을 담는다.
+ * (JFR 이 모든 이벤트에 추가하는 duration 필드와 이름이 겹치면 클래스 계측이 실패한다)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Name(SlowRepositoryCallEvent.NAME)
+@Label("Slow Repository Call")
+@Category({"ReAcademix", "Persistence"})
+@Description("임계값 이상 걸린 Spring Data Repository 호출")
+@StackTrace(false)
+public class SlowRepositoryCallEvent extends Event {
+
+    public static final String NAME = "com.reacademix.SlowRepositoryCall";
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("State")
+    @Description("SUCCESS, ERROR, CANCELED")
+    String state;
+
+    @Label("Call Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long callDuration;
+}
@@ -0,0 +1,40 @@
+package com.reacademix.reacademix_backend.jfr;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 Repository 호출을 SlowRepositoryCallEvent(JFR)로 기록하는 리스너
+ * Spring Data 가 호출마다 측정한 소요 시간을 그대로 사용하므로 추가 시간 측정은 없고,
+ * 임계값 미만이거나 기록 중이 아니면 비교 한 번으로 끝난다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public class SlowRepositoryCallListener implements RepositoryMethodInvocationListener {
+
+    private final long thresholdNanos;
+
+    public SlowRepositoryCallListener(Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        long durationNanos = invocation.getDuration(TimeUnit.NANOSECONDS);
+        if (durationNanos < thresholdNanos) {
+            return;
+        }
+        SlowRepositoryCallEvent event = new SlowRepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.repository = invocation.getRepositoryInterface().getSimpleName();
+        event.method = invocation.getMethod().getName();
+        event.state = invocation.getResult() != null ? invocation.getResult().getState().name() : "UNKNOWN";
+        event.callDuration = durationNanos;
+        event.commit();
+    }
+}
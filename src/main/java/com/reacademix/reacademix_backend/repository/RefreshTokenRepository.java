@@ -0,0 +1,55 @@
+package com.reacademix.reacademix_backend.repository;
+
+import com.reacademix.reacademix_backend.domain.token.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * RefreshToken 엔티티를 위한 Repository 인터페이스
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 세션 조회 (uk_refresh_tokens_token_hash)
+     * @param tokenHash SHA-256(리프레시 토큰)
+     * @return Optional<RefreshToken> 세션
+     */
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    /**
+     * 세션 삭제 (재발급 시 사용 처리)
+     * 동시에 같은 토큰으로 재발급하면 한 트랜잭션만 1을 반환한다.
+     * @param id 세션 ID
+     * @return int 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.id = :id")
+    int deleteUsed(@Param("id") Long id);
+
+    /**
+     * 사용자의 전체 세션 삭제 (idx_refresh_tokens_user_id_expires_at)
+     * @param userId 사용자 ID
+     * @return int 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 만료된 세션 ID 조회 (만료 시각 순, 배치 크기만큼)
+     * @param now 현재 시각
+     * @param pageable 배치 크기 (첫 페이지만 사용)
+     * @return List<Long> 세션 ID 목록
+     */
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :now ORDER BY t.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
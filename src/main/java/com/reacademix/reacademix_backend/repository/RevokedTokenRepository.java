@@ -0,0 +1,42 @@
+package com.reacademix.reacademix_backend.repository;
+
+import com.reacademix.reacademix_backend.domain.token.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RevokedToken 엔티티를 위한 Repository 인터페이스
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 특정 시각 이후 폐기되었고 아직 만료되지 않은 토큰 조회 (노드 간 동기화용)
+     * @param since 조회 시작 시각 (폐기 시각 기준)
+     * @param now 현재 시각
+     * @return List<RevokedToken> 폐기 토큰 목록
+     */
+    List<RevokedToken> findByCreatedAtGreaterThanEqualAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+    /**
+     * 아직 만료되지 않은 전체 폐기 토큰 조회 (최초 동기화용)
+     * @param now 현재 시각
+     * @return List<RevokedToken> 폐기 토큰 목록
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 만료된 폐기 토큰 일괄 삭제
+     * @param now 현재 시각
+     * @return int 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
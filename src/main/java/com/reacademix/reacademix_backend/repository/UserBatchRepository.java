@@ -0,0 +1,78 @@
+package com.reacademix.reacademix_backend.repository;
+
+import com.reacademix.reacademix_backend.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 대량 INSERT 전용 Repository
+ *
+ * User 엔티티는 IDENTITY 전략이라 Hibernate가 INSERT를 묶어 보내지 못한다.
+ * 대량 등록은 JPA를 거치지 않고 JDBC 배치로 한 번에 전송하고,
+ * 생성된 ID는 배치의 generated keys 로 받아온다. (MySQL은 rewriteBatchedStatements 로 multi-row INSERT)
+ * 호출 측 트랜잭션 안에서 실행해야 배치 단위로 원자적으로 반영된다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (email, password, name, role, status, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 목록을 하나의 JDBC 배치로 INSERT
+     *
+     * @param users 저장할 사용자 (email/password/name/role/status 사용)
+     * @param now 생성/수정 시각
+     * @return 입력 순서와 같은 순서의 생성된 사용자 ID
+     */
+    public List<Long> insertAll(List<User> users, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        User user = users.get(i);
+                        ps.setString(1, user.getEmail());
+                        ps.setString(2, user.getPassword());
+                        ps.setString(3, user.getName());
+                        ps.setString(4, user.getRole().name());
+                        ps.setString(5, user.getStatus().name());
+                        ps.setTimestamp(6, timestamp);
+                        ps.setTimestamp(7, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return users.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(users.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
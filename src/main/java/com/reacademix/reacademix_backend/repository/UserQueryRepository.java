@@ -0,0 +1,113 @@
+package com.reacademix.reacademix_backend.repository;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 관리자 사용자 목록 조회 전용 Repository
+ *
+ * - 페이지 조회: OFFSET 대신 마지막 id 를 커서로 사용하는 keyset 방식 (idx_users_status_id / idx_users_role_id / PK)
+ *   필터 조건이 있는 경우에만 WHERE 절에 넣어 각 조합이 해당 인덱스를 그대로 타도록 SQL 을 구성한다.
+ * - 전체 내보내기: forward-only 읽기 전용 커서를 fetch size 단위로 읽어 행마다 전달 (MySQL 은 useCursorFetch 필요)
+ *   호출 측 트랜잭션 안에서 실행해야 한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserQueryRepository {
+
+    private static final String SELECT_SQL = "SELECT id, email, name, role, status FROM users";
+
+    /** 내보내기 시 한 번에 가져올 행 수 */
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final RowMapper<UserProfile> PROFILE_MAPPER = (rs, rowNum) -> mapProfile(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * keyset 페이지 조회 (id 오름차순)
+     *
+     * @param status 상태 필터 (null 이면 전체)
+     * @param role 역할 필터 (null 이면 전체)
+     * @param afterId 이전 페이지의 마지막 id (null 이면 첫 페이지)
+     * @param limit 최대 행 수
+     * @return id 오름차순 사용자 목록
+     */
+    public List<UserProfile> findPage(UserStatus status, UserRole role, Long afterId, int limit) {
+        List<Object> args = new ArrayList<>(4);
+        StringBuilder sql = new StringBuilder(128).append(SELECT_SQL);
+        appendFilters(sql, args, status, role, afterId);
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), PROFILE_MAPPER, args.toArray());
+    }
+
+    /**
+     * 조건에 맞는 사용자 전체를 id 오름차순으로 스트리밍
+     * 결과 전체를 메모리에 올리지 않고 fetch size 만큼씩 읽으면서 sink 에 전달한다.
+     *
+     * @param status 상태 필터 (null 이면 전체)
+     * @param role 역할 필터 (null 이면 전체)
+     * @param sink 행마다 호출되는 소비자
+     */
+    public void streamAll(UserStatus status, UserRole role, Consumer<UserProfile> sink) {
+        List<Object> args = new ArrayList<>(2);
+        StringBuilder sql = new StringBuilder(128).append(SELECT_SQL);
+        appendFilters(sql, args, status, role, null);
+        sql.append(" ORDER BY id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> sink.accept(mapProfile(rs)));
+    }
+
+    private static void appendFilters(StringBuilder sql, List<Object> args,
+                                      UserStatus status, UserRole role, Long afterId) {
+        String keyword = " WHERE ";
+        if (status != null) {
+            sql.append(keyword).append("status = ?");
+            args.add(status.name());
+            keyword = " AND ";
+        }
+        if (role != null) {
+            sql.append(keyword).append("role = ?");
+            args.add(role.name());
+            keyword = " AND ";
+        }
+        if (afterId != null) {
+            sql.append(keyword).append("id > ?");
+            args.add(afterId);
+        }
+    }
+
+    private static UserProfile mapProfile(ResultSet rs) throws SQLException {
+        return new UserProfile(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                UserRole.valueOf(rs.getString(4)),
+                UserStatus.valueOf(rs.getString(5)));
+    }
+}
@@ -1,10 +1,24 @@
 package com.reacademix.reacademix_backend.repository;
 
 import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.repository.projection.LoginCredential;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * User 엔티티를 위한 Repository 인터페이스
@@ -26,5 +40,77 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return boolean 이메일 존재 여부
      */
     boolean existsByEmail(String email);
-}
 
+    /**
+     * 주어진 이메일 중 이미 등록된 이메일 조회 (대량 등록 시 한 번의 IN 쿼리로 중복 확인)
+     * @param emails 확인할 이메일 목록 (소문자로 정규화된 값)
+     * @return List<String> 이미 등록된 이메일
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 로그인 검증용 사용자 조회 (필요한 컬럼만 조회, 짧은 읽기 전용 트랜잭션)
+     * 읽기 전용 + 수동 flush 힌트: 쓰기 트랜잭션 안에서 호출되어도 조회 전 auto flush(dirty checking)를 생략
+     * @param email 사용자 이메일 (소문자로 정규화되어 저장됨)
+     * @return Optional<LoginCredential> 로그인 검증 정보 (없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.reacademix.reacademix_backend.repository.projection.LoginCredential("
+            + "u.id, u.email, u.name, u.role, u.status, u.password) "
+            + "FROM User u WHERE u.email = :email")
+    Optional<LoginCredential> findLoginCredentialByEmail(@Param("email") String email);
+
+    /**
+     * 사용자 공개 프로필 조회 (비밀번호 해시 제외, 읽기 전용)
+     * @param id 사용자 ID
+     * @return Optional<UserProfile> 프로필 정보 (없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.reacademix.reacademix_backend.repository.projection.UserProfile("
+            + "u.id, u.email, u.name, u.role, u.status) "
+            + "FROM User u WHERE u.id = :id")
+    Optional<UserProfile> findProfileById(@Param("id") Long id);
+
+    /**
+     * 비밀번호 해시 변경 (BCrypt cost 변경에 따른 재해시)
+     * @param id 사용자 ID
+     * @param password 새 bcrypt 해시
+     * @param updatedAt 수정 시각
+     * @return int 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password, u.updatedAt = :updatedAt WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id,
+                       @Param("password") String password,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 전체 이메일 스트림 조회 (가입 이메일 필터 구성용)
+     * 호출 측 트랜잭션 안에서 소비하고 반드시 close 해야 함
+     * @return Stream<String> 이메일 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    /**
+     * 저장된 비밀번호 해시의 BCrypt 접두사("$2a$10$") 를 사용자 수가 많은 순으로 조회
+     * 존재하지 않는 계정용 더미 해시를 실제 사용자 대부분의 cost에 맞추는 데 사용
+     * @param pageable 조회 개수 (보통 첫 1건)
+     * @return List<String> BCrypt 접두사 목록
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT SUBSTRING(u.password, 1, 7) FROM User u "
+            + "GROUP BY SUBSTRING(u.password, 1, 7) ORDER BY COUNT(u) DESC")
+    List<String> findPasswordHashPrefixesByFrequency(Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.reacademix.reacademix_backend.repository.projection;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+
+/**
+ * 로그인 검증용 사용자 조회 Projection
+ * 로그인에 필요한 컬럼만 조회하며 영속성 컨텍스트에 관리되지 않는 읽기 전용 객체
+ * (엔티티 조회와 달리 dirty checking 스냅샷, 감사 필드, 프록시를 만들지 않음)
+ *
+ * @param id 사용자 ID
+ * @param email 사용자 이메일
+ * @param name 사용자 이름
+ * @param role 사용자 역할
+ * @param status 계정 상태
+ * @param passwordHash bcrypt 해시
+ */
+public record LoginCredential(
+        Long id,
+        String email,
+        String name,
+        UserRole role,
+        UserStatus status,
+        String passwordHash) {
+}
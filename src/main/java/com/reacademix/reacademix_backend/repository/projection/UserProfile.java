@@ -0,0 +1,22 @@
+package com.reacademix.reacademix_backend.repository.projection;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+
+/**
+ * 사용자 공개 프로필 조회 Projection
+ * 비밀번호 해시와 감사 필드를 제외한 컬럼만 조회하는 읽기 전용 객체
+ *
+ * @param id 사용자 ID
+ * @param email 사용자 이메일
+ * @param name 사용자 이름
+ * @param role 사용자 역할
+ * @param status 계정 상태
+ */
+public record UserProfile(
+        Long id,
+        String email,
+        String name,
+        UserRole role,
+        UserStatus status) {
+}
@@ -0,0 +1,34 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 검증된 JWT 토큰에서 추출한 인증 주체 정보
+ * 토큰을 한 번만 파싱/서명 검증한 뒤 그 결과를 불변 객체로 보관
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Getter
+@Builder(toBuilder = true)
+public final class AuthenticatedPrincipal {
+
+    /** 사용자 고유 ID (토큰 subject) */
+    private final Long userId;
+
+    /** 사용자 이메일 */
+    private final String email;
+
+    /** 사용자 역할 */
+    private final UserRole role;
+
+    /** 토큰 ID (jti 클레임, 폐기 여부 확인에 사용, jti 도입 전 발급된 토큰은 null) */
+    private final String tokenId;
+
+    /** 토큰 만료 시각 */
+    private final Instant expiresAt;
+}
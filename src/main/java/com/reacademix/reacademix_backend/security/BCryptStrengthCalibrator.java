@@ -0,0 +1,76 @@
+package com.reacademix.reacademix_backend.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 BCrypt strength 보정
+ * 서버 기동 시 현재 CPU에서 목표 해시 시간 이내로 수행되는 가장 높은 strength를 선택
+ * 보정을 끄면(기본값) 모든 노드가 min-strength 를 사용한다. (클러스터 공통 cost)
+ * 보정 결과는 min-strength 아래로 내려가지 않으며, 저장된 해시는 더 높은 cost로만 재해시된다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Getter
+@Component
+public class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+
+    /** 측정 반복 횟수 (최소값 사용) */
+    private static final int SAMPLES = 3;
+
+    /** 선택된 BCrypt strength */
+    private final int strength;
+
+    public BCryptStrengthCalibrator(
+            @Value("${security.password.calibrate:false}") boolean calibrate,
+            @Value("${security.password.target-hash-ms:250}") long targetMillis,
+            @Value("${security.password.min-strength:10}") int minStrength,
+            @Value("${security.password.max-strength:14}") int maxStrength) {
+        this.strength = calibrate ? calibrate(targetMillis, minStrength, maxStrength) : minStrength;
+    }
+
+    /**
+     * 목표 해시 시간에 맞는 BCrypt strength 계산
+     * strength가 1 증가할 때마다 해시 시간은 약 2배가 되므로, 목표를 넘는 첫 strength 직전 값을 선택
+     *
+     * @param targetMillis 목표 해시 시간 (ms)
+     * @param minStrength 최소 strength (보안 하한)
+     * @param maxStrength 최대 strength
+     * @return 선택된 strength
+     */
+    static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        int selected = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsedMillis = measureMillis(strength);
+            log.info("BCrypt strength 보정: strength={}, {}ms", strength, elapsedMillis);
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            selected = strength;
+            // 다음 strength는 약 2배 소요되므로 목표를 넘을 것이 확실하면 측정 생략
+            if (elapsedMillis * 2 > targetMillis) {
+                break;
+            }
+        }
+        log.info("BCrypt strength 선택: {} (목표 {}ms)", selected, targetMillis);
+        return selected;
+    }
+
+    private static long measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000;
+    }
+}
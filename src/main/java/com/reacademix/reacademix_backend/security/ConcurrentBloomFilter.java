@@ -0,0 +1,72 @@
+package com.reacademix.reacademix_backend.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * lock-free Bloom filter (문자열 키)
+ * 비트 배열은 AtomicLongArray로 관리하여 여러 스레드가 락 없이 동시에 추가/조회할 수 있다.
+ * mightContain이 false면 확실히 없는 값, true면 오탐 가능성이 있는 값이다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+final class ConcurrentBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 저장 건수
+     * @param falsePositiveRate 목표 오탐률
+     */
+    ConcurrentBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        // m = -n·ln(p) / (ln 2)^2, k = (m / n)·ln 2
+        this.bitCount = Math.max(64, (int) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            bits.accumulateAndGet(bit >>> 6, 1L << bit, (current, mask) -> current | mask);
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문자열 64비트 해시 (상위/하위 32비트를 이중 해싱의 두 해시로 사용)
+     * String.hashCode()(32비트)에서 유도하면 hashCode 가 같은 문자열은 k 개 인덱스가 모두 같아지므로
+     * 문자 전체를 64비트 FNV-1a 로 누적한 뒤 MurmurHash3 fmix64로 비트를 분산한다.
+     */
+    static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,113 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.common.CachedClock;
+import com.reacademix.reacademix_backend.domain.token.RevokedToken;
+import com.reacademix.reacademix_backend.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 다중 노드용 DB 기반 토큰 폐기 저장소
+ *
+ * 폐기 등록은 revoked_tokens 테이블에 저장하고, 조회는 로컬 InMemoryTokenRevocationStore만 사용한다.
+ * 다른 노드에서 등록한 폐기 토큰은 주기적인 동기화로 로컬 Bloom filter에 반영된다.
+ * (동기화 주기만큼 다른 노드 반영이 지연될 수 있음)
+ * 시각은 JWT exp 계산과 같은 공용 Clock 기준으로 저장/비교한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "database")
+public class DatabaseTokenRevocationStore implements TokenRevocationStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final InMemoryTokenRevocationStore localStore;
+    private final Clock clock;
+    private final long syncOverlapMillis;
+
+    /** 마지막 동기화 시작 시각 (null이면 최초 동기화: 만료되지 않은 전체 조회) */
+    private volatile LocalDateTime lastSyncedAt;
+
+    public DatabaseTokenRevocationStore(
+            RevokedTokenRepository revokedTokenRepository,
+            Clock clock,
+            @Value("${jwt.revocation.bucket-millis:3600000}") long bucketMillis,
+            @Value("${jwt.revocation.expected-per-bucket:10000}") int expectedPerBucket,
+            @Value("${jwt.revocation.sync-interval-ms:5000}") long syncIntervalMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.clock = clock;
+        this.localStore = new InMemoryTokenRevocationStore(clock, bucketMillis, expectedPerBucket);
+        // 노드 간 시계 오차, 커밋 지연을 고려해 직전 동기화 구간과 겹쳐서 조회
+        this.syncOverlapMillis = syncIntervalMillis;
+    }
+
+    /**
+     * 폐기 등록 (이미 등록된 토큰은 무시)
+     * 사전 존재 확인 없이 INSERT 하고 (RevokedToken 은 Persistable 이라 merge 의 SELECT 도 없음)
+     * 이미 등록되었거나 여러 노드가 동시에 폐기해 PK 중복이 나면 이미 등록된 것으로 간주한다.
+     */
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        try {
+            revokedTokenRepository.saveAndFlush(RevokedToken.builder()
+                    .tokenId(tokenId)
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, clock.getZone()))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 노드에서 이미 폐기된 토큰: {}", tokenId);
+        }
+        localStore.revoke(tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, Instant expiresAt) {
+        return localStore.isRevoked(tokenId, expiresAt);
+    }
+
+    /**
+     * 다른 노드에서 등록한 폐기 토큰을 로컬 저장소로 동기화
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime now = CachedClock.localDateTime(clock);
+        List<RevokedToken> revokedTokens = lastSyncedAt == null
+                ? revokedTokenRepository.findByExpiresAtAfter(now)
+                : revokedTokenRepository.findByCreatedAtGreaterThanEqualAndExpiresAtAfter(
+                        lastSyncedAt.minus(syncOverlapMillis, ChronoUnit.MILLIS), now);
+        for (RevokedToken revokedToken : revokedTokens) {
+            localStore.revoke(revokedToken.getTokenId(),
+                    revokedToken.getExpiresAt().atZone(clock.getZone()).toInstant());
+        }
+        lastSyncedAt = now;
+
+        if (!revokedTokens.isEmpty()) {
+            log.debug("폐기 토큰 동기화 완료: {}건", revokedTokens.size());
+        }
+    }
+
+    /**
+     * 만료된 폐기 토큰 정리 (로컬 버킷 + DB 행)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    @Transactional
+    public void purgeExpired() {
+        localStore.purgeExpired();
+        int deleted = revokedTokenRepository.deleteExpired(CachedClock.localDateTime(clock));
+        if (deleted > 0) {
+            log.debug("만료된 폐기 토큰 삭제 완료: {}건", deleted);
+        }
+    }
+}
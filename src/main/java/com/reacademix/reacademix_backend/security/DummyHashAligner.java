@@ -0,0 +1,62 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 더미 해시 cost 를 저장된 사용자 해시 대부분의 cost 에 맞추는 작업
+ *
+ * 존재하지 않는 이메일은 PasswordHasher 의 더미 해시로 BCrypt 비용을 지불한다.
+ * 기존 사용자 해시는 로그인 성공 시에만 현재 strength로 재해시되므로,
+ * 더미 해시를 현재 strength로 두면 "없는 이메일"과 "틀린 비밀번호"의 응답 시간이 달라진다.
+ * 기동 시와 주기적으로 users.password 의 가장 많은 cost 를 조회하여 더미 해시를 다시 만든다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DummyHashAligner {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+
+    /**
+     * 기동 완료 시 더미 해시 cost 맞춤
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        align();
+    }
+
+    /**
+     * 가장 많은 사용자가 가진 BCrypt cost 로 더미 해시 갱신 (재해시로 분포가 바뀌는 것을 반영)
+     * 사용자가 없거나 조회에 실패하면 기존 더미 해시를 유지한다.
+     */
+    @Scheduled(
+            initialDelayString = "${security.password.dummy-align-interval-ms:3600000}",
+            fixedDelayString = "${security.password.dummy-align-interval-ms:3600000}")
+    public void align() {
+        try {
+            List<String> prefixes = userRepository.findPasswordHashPrefixesByFrequency(PageRequest.of(0, 1));
+            if (prefixes.isEmpty()) {
+                return;
+            }
+            int cost = PasswordHasher.costOf(prefixes.get(0));
+            if (cost > 0) {
+                passwordHasher.alignDummyHash(cost);
+            }
+        } catch (RuntimeException e) {
+            log.warn("더미 해시 cost 조회 실패, 기존 더미 해시 유지: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reacademix.reacademix_backend.security;
+
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SecureRequest;
+import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.security.VerifySecureDigestRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+
+/**
+ * JwtKeyRing 키 전용 HS256 서명 알고리즘
+ *
+ * jjwt 기본 HS256 은 서명/검증마다 Mac.getInstance + init 을 수행한다.
+ * 이 구현은 키 링의 키마다 보관하는 MacPool 에서 초기화된 Mac 을 빌려 쓰므로
+ * 프로바이더 조회와 Mac 생성 없이 HMAC 만 계산한다.
+ * 파서에 같은 ID("HS256")로 등록하여 jjwt 기본 구현을 대체한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+final class HmacSha256Algorithm implements SecureDigestAlgorithm<SecretKey, SecretKey> {
+
+    static final String ID = "HS256";
+    static final String JCA_NAME = "HmacSHA256";
+
+    static final HmacSha256Algorithm INSTANCE = new HmacSha256Algorithm();
+
+    private HmacSha256Algorithm() {
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] digest(SecureRequest<InputStream, SecretKey> request) {
+        return mac(request.getKey(), request.getPayload());
+    }
+
+    @Override
+    public boolean verify(VerifySecureDigestRequest<SecretKey> request) {
+        return MessageDigest.isEqual(mac(request.getKey(), request.getPayload()), request.getDigest());
+    }
+
+    private static byte[] mac(SecretKey key, InputStream payload) {
+        if (!(key instanceof JwtKeyRing.RingKey ringKey)) {
+            throw new InvalidKeyException("JwtKeyRing 키만 지원합니다.");
+        }
+        byte[] input;
+        try {
+            input = payload.readAllBytes();
+        } catch (IOException e) {
+            throw new SignatureException("JWT 서명 입력을 읽을 수 없습니다.", e);
+        }
+        MacPool pool = ringKey.macPool();
+        Mac mac = pool.acquire();
+        try {
+            return mac.doFinal(input);
+        } finally {
+            // doFinal 이 실패해도 초기 상태로 되돌려 반납
+            mac.reset();
+            pool.release(mac);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 노드용 인메모리 토큰 버킷 저장소
+ *
+ * 버킷마다 AtomicLong 하나만 두는 GCRA(Generic Cell Rate Algorithm) 형태의 토큰 버킷을 사용한다.
+ * - 상태: 버킷이 다시 가득 차는 이론상 시각(TAT) 하나 → 토큰 수와 마지막 충전 시각을 따로 갱신할 필요 없음
+ * - 소비: CAS 한 번으로 TAT 를 refillInterval 만큼 전진 (락/할당 없음, 경합 시 재시도)
+ * - 키 수: maximum-keys 로 제한, idle-timeout 동안 요청이 없는 키는 제거 (가득 찬 버킷과 동일하므로 상태 손실 없음)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "security.login.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Ticker ticker;
+    private final Cache<String, AtomicLong> buckets;
+
+    @Autowired
+    public InMemoryRateLimitStore(
+            @Value("${security.login.rate-limit.maximum-keys:100000}") long maximumKeys,
+            @Value("${security.login.rate-limit.idle-timeout:PT10M}") Duration idleTimeout) {
+        this(maximumKeys, idleTimeout, Ticker.systemTicker());
+    }
+
+    /**
+     * 시간 소스를 지정하는 생성자 (테스트용)
+     */
+    InMemoryRateLimitStore(long maximumKeys, Duration idleTimeout, Ticker ticker) {
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, int capacity, long refillIntervalNanos) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long burstNanos = refillIntervalNanos * capacity;
+        while (true) {
+            long now = ticker.read();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + refillIntervalNanos;
+            long allowedAt = next - burstNanos;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * TAT 를 refillInterval 만큼 되돌림
+     * TAT 가 현재 시각보다 과거가 되어도 tryAcquire 가 현재 시각 기준으로 계산하므로 버킷 크기를 넘지 않는다.
+     */
+    @Override
+    public void release(String key, long refillIntervalNanos) {
+        AtomicLong theoreticalArrival = buckets.getIfPresent(key);
+        if (theoreticalArrival != null) {
+            theoreticalArrival.addAndGet(-refillIntervalNanos);
+        }
+    }
+
+    /**
+     * 현재 추적 중인 키 수 (근사치)
+     *
+     * @return 키 수
+     */
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+}
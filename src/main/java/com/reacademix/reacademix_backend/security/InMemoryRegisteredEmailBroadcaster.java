@@ -0,0 +1,35 @@
+package com.reacademix.reacademix_backend.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 프로세스용 가입 이메일 전파 채널
+ * 등록된 모든 리스너에게 호출 스레드에서 바로 전달한다.
+ * 단일 노드 운영과, 한 채널을 공유하는 여러 필터 인스턴스로 다중 노드를 흉내 내는 테스트에 사용
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "security.login.email-filter.broadcast", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRegisteredEmailBroadcaster implements RegisteredEmailBroadcaster {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String email) {
+        for (Consumer<String> listener : listeners) {
+            listener.accept(email);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
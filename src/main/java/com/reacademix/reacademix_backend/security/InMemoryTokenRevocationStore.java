@@ -0,0 +1,115 @@
+package com.reacademix.reacademix_backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 단일 노드용 인메모리 토큰 폐기 저장소
+ *
+ * 토큰 만료 시각 기준으로 시간 버킷을 나누고, 버킷마다 Bloom filter와 정확한 집합을 함께 둔다.
+ * - 조회: 만료 시각으로 버킷 하나만 선택 → Bloom filter에서 대부분 즉시 false 반환
+ * - Bloom filter 양성일 때만 정확한 집합을 확인 (오탐 제거)
+ * - 버킷의 모든 토큰이 만료되면 버킷 전체를 제거
+ * 현재 시각은 JWT exp 계산과 같은 공용 Clock 기준으로 판단한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    /** 버킷당 Bloom filter 오탐률 */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int expectedPerBucket;
+    private final ConcurrentMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public InMemoryTokenRevocationStore(
+            Clock clock,
+            @Value("${jwt.revocation.bucket-millis:3600000}") long bucketMillis,
+            @Value("${jwt.revocation.expected-per-bucket:10000}") int expectedPerBucket) {
+        this.clock = clock;
+        this.bucketMillis = bucketMillis;
+        this.expectedPerBucket = expectedPerBucket;
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= clock.millis()) {
+            return;  // 이미 만료된 토큰은 검증 단계에서 거부됨
+        }
+        buckets.computeIfAbsent(bucketIndex(expiresAtMillis), index -> new Bucket(expectedPerBucket))
+                .add(tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, Instant expiresAt) {
+        if (buckets.isEmpty()) {
+            return false;
+        }
+        Bucket bucket = buckets.get(bucketIndex(expiresAt.toEpochMilli()));
+        return bucket != null && bucket.contains(tokenId);
+    }
+
+    /**
+     * 모든 토큰이 만료된 버킷 제거
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long currentBucket = bucketIndex(clock.millis());
+        // 버킷 i의 토큰은 모두 (i + 1) * bucketMillis 이전에 만료됨
+        if (buckets.keySet().removeIf(index -> index < currentBucket)) {
+            log.debug("만료된 토큰 폐기 버킷 제거 완료, 남은 버킷 수: {}", buckets.size());
+        }
+    }
+
+    /**
+     * 현재 보관 중인 폐기 토큰 수
+     *
+     * @return 폐기 토큰 수
+     */
+    public int size() {
+        return buckets.values().stream().mapToInt(bucket -> bucket.tokenIds.size()).sum();
+    }
+
+    private long bucketIndex(long epochMillis) {
+        return epochMillis / bucketMillis;
+    }
+
+    /**
+     * 만료 시간 버킷: lock-free Bloom filter + 정확한 집합
+     */
+    private static final class Bucket {
+
+        private final ConcurrentBloomFilter bloomFilter;
+        private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+        private Bucket(int expectedInsertions) {
+            this.bloomFilter = new ConcurrentBloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        }
+
+        private void add(String tokenId) {
+            // 정확한 집합을 먼저 갱신해야 Bloom filter 양성 이후 조회에서 누락되지 않음
+            tokenIds.add(tokenId);
+            bloomFilter.put(tokenId);
+        }
+
+        private boolean contains(String tokenId) {
+            return bloomFilter.mightContain(tokenId) && tokenIds.contains(tokenId);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reacademix.reacademix_backend.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 프로세스용 무효화 전파 채널
+ * 등록된 모든 리스너에게 호출 스레드에서 바로 전달한다.
+ * 단일 노드 운영과, 한 채널을 공유하는 여러 캐시 인스턴스로 다중 노드를 흉내 내는 테스트에 사용
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "user.identity-cache.broadcast", havingValue = "memory", matchIfMissing = true)
+public class InMemoryUserIdentityInvalidationBroadcaster implements UserIdentityInvalidationBroadcaster {
+
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Long userId) {
+        for (Consumer<Long> listener : listeners) {
+            listener.accept(userId);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,49 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.exception.ErrorResponseWriter;
+import com.reacademix.reacademix_backend.exception.SampledErrorLogger;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 인증 실패 시 401 응답을 생성하는 EntryPoint
+ * 필터 단계의 예외는 GlobalExceptionHandler를 거치지 않으므로 동일한 ErrorResponseWriter로 직접 작성
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final ErrorResponseWriter errorResponseWriter;
+    private final SampledErrorLogger sampledErrorLogger;
+
+    /**
+     * 인증 정보 없이 보호된 엔드포인트에 접근한 경우 (AUTH_001)
+     */
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        sendError(response, ErrorCode.AUTH_001);
+    }
+
+    /**
+     * 에러 코드에 해당하는 ErrorResponse를 응답으로 작성
+     *
+     * @param response HTTP 응답
+     * @param errorCode 에러 코드
+     * @throws IOException 응답 작성 실패 시
+     */
+    public void sendError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        sampledErrorLogger.record(errorCode, errorCode.getMessage());
+        errorResponseWriter.write(response, errorCode);
+    }
+}
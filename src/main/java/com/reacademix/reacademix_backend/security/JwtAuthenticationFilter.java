@@ -0,0 +1,149 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 인증 필터
+ * Authorization 헤더의 Bearer 토큰을 검증하고 SecurityContext에 Authentication을 설정
+ *
+ * 기본은 토큰 클레임(id, email, role)만으로 Authentication을 만들며 DB는 조회하지 않는다.
+ * UserIdentityCache 를 전달하면(user.identity-cache.request-check=true) 서명 검증 후 현재 계정 상태와 역할을 확인한다.
+ * - 비활성화된 계정: 토큰이 만료되지 않았어도 AUTH_004, 삭제된 계정: AUTH_006
+ * - 토큰 발급 이후 역할이 바뀐 경우: 토큰 클레임 대신 현재 역할로 권한 부여
+ * - 캐시 히트 시 DB 조회 없음, 미스 시 사용자 한 명 조회 (ttl 마다 사용자당 1회)
+ * 서블릿 필터로 자동 등록되지 않도록 Bean이 아닌 SecurityConfig에서 직접 생성한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /** 역할별 권한 목록 (요청마다 생성하지 않도록 미리 계산) */
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserIdentityCache userIdentityCache;
+    private final JwtAuthenticationEntryPoint authenticationEntryPoint;
+
+    /**
+     * 토큰 클레임만 사용하는 필터 생성
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   JwtAuthenticationEntryPoint authenticationEntryPoint) {
+        this(jwtTokenProvider, null, authenticationEntryPoint);
+    }
+
+    /**
+     * @param userIdentityCache 계정 상태/역할 확인용 캐시 (null 이면 토큰 클레임만 사용)
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserIdentityCache userIdentityCache,
+                                   JwtAuthenticationEntryPoint authenticationEntryPoint) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userIdentityCache = userIdentityCache;
+        this.authenticationEntryPoint = authenticationEntryPoint;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = resolveToken(request);
+
+        // 토큰이 없으면 익명 요청으로 진행 (보호된 경로는 EntryPoint에서 AUTH_001 처리)
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            AuthenticatedPrincipal principal = jwtTokenProvider.authenticate(token);
+            if (userIdentityCache != null) {
+                principal = currentPrincipal(principal);
+            }
+
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    principal, null, AUTHORITIES.get(principal.getRole())));
+            SecurityContextHolder.setContext(context);
+        } catch (AuthException e) {
+            // 만료(AUTH_005), 무효(AUTH_006) 토큰, 비활성화 계정(AUTH_004)은 즉시 401 응답
+            SecurityContextHolder.clearContext();
+            authenticationEntryPoint.sendError(response, e.getErrorCode());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 현재 계정 정보로 인증 주체 확인
+     *
+     * @param principal 토큰에서 추출한 인증 주체
+     * @return 현재 역할이 반영된 인증 주체
+     * @throws AuthException 삭제된 계정 (AUTH_006), 비활성화된 계정 (AUTH_004)
+     */
+    private AuthenticatedPrincipal currentPrincipal(AuthenticatedPrincipal principal) {
+        UserProfile profile = userIdentityCache.get(principal.getUserId());
+        if (profile == null) {
+            throw new AuthException(ErrorCode.AUTH_006);
+        }
+        if (profile.status() != UserStatus.ACTIVE) {
+            throw new AuthException(ErrorCode.AUTH_004);
+        }
+        if (profile.role() != principal.getRole()) {
+            return principal.toBuilder().role(profile.role()).build();
+        }
+        return principal;
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰 추출
+     *
+     * @param request HTTP 요청
+     * @return 토큰 문자열 (헤더가 없거나 Bearer 형식이 아니면 null)
+     */
+    private String resolveToken(HttpServletRequest request) {
+        return resolveToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+    }
+
+    /**
+     * Authorization 헤더 값에서 Bearer 토큰 추출 (공개 체인의 로그아웃 API에서도 사용)
+     *
+     * @param header Authorization 헤더 값
+     * @return 토큰 문자열 (헤더가 없거나 Bearer 형식이 아니면 null)
+     */
+    public static String resolveToken(String header) {
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
@@ -0,0 +1,248 @@
+package com.reacademix.reacademix_backend.security;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JWT 서명 키 링 (kid 헤더 기준)
+ *
+ * - 서명: 현재 서명 키 하나로 서명하고 JWS 헤더에 kid 를 기록
+ * - 검증: kid 로 검증 키를 찾음 (교체 전 키를 남겨 두면 기존 토큰이 만료될 때까지 유효)
+ * - kid 가 없는 토큰은 "default" 키로 검증
+ * - jwt.keys.file 이 없으면 jwt.secret 하나를 "default" 키로 사용
+ * - 키 파일은 reload-interval-ms 마다 내용 SHA-256 을 비교하여 재시작 없이 다시 읽음 (실패 시 기존 키 유지)
+ *   (수정 시각은 파일 시스템 해상도 안에서 다시 쓰면 바뀌지 않으므로 비교하지 않음)
+ * - 재적재 후 구독자(JwtTokenProvider: 검증 캐시 비우기)에게 알림
+ *
+ * 키 파일 형식 (java.util.Properties, 비밀 값은 UTF-8 32바이트 이상):
+ * <pre>
+ * signing-kid=2025-03
+ * key.2025-03=...
+ * key.2025-01=...   (교체 전 키: 기존 토큰 만료 후 삭제)
+ * </pre>
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class JwtKeyRing implements Locator<Key> {
+
+    static final String DEFAULT_KID = "default";
+
+    private static final String SIGNING_KID = "signing-kid";
+    private static final String KEY_PREFIX = "key.";
+    private static final int MIN_KEY_BYTES = 32;
+
+    /** 키마다 보관할 Mac 인스턴스 수 */
+    private static final int MAC_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final Path keyFile;
+
+    /** 재적재 후 호출할 구독자 */
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
+    /** 현재 키 세트 (불변, 재적재 시 참조만 교체) */
+    private volatile KeySet keySet;
+
+    public JwtKeyRing(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.keys.file:}") String keyFile) {
+        this.keyFile = StringUtils.hasText(keyFile) ? Path.of(keyFile) : null;
+        if (this.keyFile == null) {
+            RingKey key = ringKey(DEFAULT_KID, secret);
+            this.keySet = new KeySet(Map.of(DEFAULT_KID, key), key, new byte[0]);
+        } else {
+            try {
+                this.keySet = load(this.keyFile);
+            } catch (IOException e) {
+                throw new IllegalStateException("JWT 키 파일을 읽을 수 없습니다: " + keyFile, e);
+            }
+        }
+        log.info("JWT 키 링 설정: source={}, signingKid={}, kids={}",
+                this.keyFile != null ? this.keyFile : "jwt.secret", keySet.signingKey().kid(), kids());
+    }
+
+    /**
+     * 현재 서명 키
+     *
+     * @return 서명 키 (kid 포함)
+     */
+    public RingKey signingKey() {
+        return keySet.signingKey();
+    }
+
+    /**
+     * 키 세트가 재적재된 뒤 실행할 작업 등록
+     *
+     * @param listener 재적재 후 실행할 작업
+     */
+    public void subscribe(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * JWS 헤더의 kid 로 검증 키 조회 (jjwt 파서 keyLocator)
+     *
+     * @param header JWT 헤더
+     * @return 검증 키
+     * @throws SignatureException 등록되지 않은 kid 인 경우 (AUTH_006)
+     */
+    @Override
+    public Key locate(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        RingKey key = keySet.verificationKeys().get(kid != null ? kid : DEFAULT_KID);
+        if (key == null) {
+            throw new SignatureException("등록되지 않은 JWT 키: kid=" + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 키 파일이 바뀌었으면 다시 읽음
+     * 형식 오류, 짧은 키, 서명 키 누락 시 기존 키 세트를 유지한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval-ms:10000}")
+    public void reloadIfChanged() {
+        if (keyFile == null) {
+            return;
+        }
+        try {
+            byte[] content = Files.readAllBytes(keyFile);
+            if (MessageDigest.isEqual(sha256(content), keySet.contentHash())) {
+                return;
+            }
+            KeySet loaded = parse(content);
+            keySet = loaded;
+            reloadListeners.forEach(Runnable::run);
+            log.info("JWT 키 링 재적재: signingKid={}, kids={}", loaded.signingKey().kid(), kids());
+        } catch (IOException | RuntimeException e) {
+            log.error("JWT 키 파일 재적재 실패, 기존 키 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 검증 가능한 kid 목록 (모니터링/테스트용)
+     *
+     * @return kid 목록 (정렬)
+     */
+    public Set<String> kids() {
+        return Collections.unmodifiableSet(new TreeSet<>(keySet.verificationKeys().keySet()));
+    }
+
+    private static KeySet load(Path file) throws IOException {
+        return parse(Files.readAllBytes(file));
+    }
+
+    private static KeySet parse(byte[] content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(new String(content, StandardCharsets.UTF_8)));
+
+        Map<String, RingKey> keys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX)) {
+                String kid = name.substring(KEY_PREFIX.length());
+                keys.put(kid, ringKey(kid, properties.getProperty(name).trim()));
+            }
+        }
+        String signingKid = properties.getProperty(SIGNING_KID, "").trim();
+        RingKey signingKey = keys.get(signingKid);
+        if (signingKey == null) {
+            throw new IllegalStateException("서명 키가 없습니다: " + SIGNING_KID + "=" + signingKid);
+        }
+        return new KeySet(Map.copyOf(keys), signingKey, sha256(content));
+    }
+
+    private static RingKey ringKey(String kid, String secret) {
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("JWT 키는 " + MIN_KEY_BYTES + "바이트 이상이어야 합니다: kid=" + kid);
+        }
+        SecretKey key = new SecretKeySpec(bytes, HmacSha256Algorithm.JCA_NAME);
+        Arrays.fill(bytes, (byte) 0);
+        return new RingKey(kid, key, new MacPool(HmacSha256Algorithm.JCA_NAME, key, MAC_POOL_SIZE));
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record KeySet(Map<String, RingKey> verificationKeys, RingKey signingKey, byte[] contentHash) {
+    }
+
+    /**
+     * kid 와 Mac 풀을 함께 가진 HMAC 키
+     * HmacSha256Algorithm 이 이 키의 풀에서 초기화된 Mac 을 빌려 쓴다.
+     */
+    public static final class RingKey implements SecretKey {
+
+        private final String kid;
+        private final transient SecretKey delegate;
+        private final transient MacPool macPool;
+
+        private RingKey(String kid, SecretKey delegate, MacPool macPool) {
+            this.kid = kid;
+            this.delegate = delegate;
+            this.macPool = macPool;
+        }
+
+        public String kid() {
+            return kid;
+        }
+
+        MacPool macPool() {
+            return macPool;
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return delegate.getAlgorithm();
+        }
+
+        @Override
+        public String getFormat() {
+            return delegate.getFormat();
+        }
+
+        @Override
+        public byte[] getEncoded() {
+            return delegate.getEncoded();
+        }
+
+        @Override
+        public String toString() {
+            return "RingKey[kid=" + kid + "]";
+        }
+    }
+}
@@ -1,47 +1,86 @@
 package com.reacademix.reacademix_backend.security;
 
 import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
 import com.reacademix.reacademix_backend.exception.AuthException;
 import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.jfr.JwtParseFailureEvent;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 Provider 클래스
+ * 서명/검증 키는 JwtKeyRing 이 kid 별로 관리한다. (키 교체 시 기존 토큰은 만료까지 유효)
  * 
  * @author Backend Team
  * @version 1.0
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKeyString;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    /** 발급/만료 판단 기준 시각 (공용 Clock 빈) */
+    private final Clock clock;
+
+    private final MeterRegistry meterRegistry;
+
+    private final JwtKeyRing keyRing;
 
     @Value("${jwt.expiration}")
     private long expirationTime;
 
-    private SecretKey secretKey;
+    /** 서명 검증용 파서 (불변 객체이므로 스레드 간 공유 가능) */
+    private JwtParser jwtParser;
+
+    /** 서명 생성/검증 소요 시간 (security.jwt, operation=sign|verify) */
+    private Timer signTimer;
+    private Timer verifyTimer;
 
     /**
      * 초기화 메서드
-     * secretKeyString을 SecretKey 객체로 변환
+     * 검증용 파서를 한 번만 생성 (kid 로 키 링에서 검증 키 조회, HS256 은 Mac 풀 구현으로 대체)
+     * 키 링이 재적재되면 검증 캐시를 비워 삭제된 키로 서명된 토큰도 다시 검증한다.
      */
     @PostConstruct
     public void init() {
-        this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
+        keyRing.subscribe(verifiedTokenCache::invalidateAll);
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .sig().add(HmacSha256Algorithm.INSTANCE).and()
+                .clock(() -> new Date(clock.millis()))
+                .build();
+        this.signTimer = jwtTimer("sign");
+        this.verifyTimer = jwtTimer("verify");
+    }
+
+    private Timer jwtTimer(String operation) {
+        return Timer.builder("security.jwt")
+                .description("JWT 서명 생성/검증 소요 시간 (검증은 캐시 미스 시에만 기록)")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
@@ -52,21 +91,109 @@ public class JwtTokenProvider {
      * @throws AuthException 토큰 생성 실패 시
      */
     public String generateToken(User user) {
+        return generateToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    /**
+     * 사용자 ID, 이메일, 역할로 JWT 토큰 생성
+     * 엔티티를 로딩하지 않은 로그인 경로(Projection 조회)에서 사용
+     * 
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param role 사용자 역할
+     * @return JWT 토큰 문자열
+     * @throws AuthException 토큰 생성 실패 시
+     */
+    public String generateToken(Long userId, String email, UserRole role) {
+        long start = System.nanoTime();
         try {
-            Date now = new Date();
-            Date expiry = new Date(now.getTime() + expirationTime);
+            long now = clock.millis();
+            JwtKeyRing.RingKey signingKey = keyRing.signingKey();
 
             return Jwts.builder()
-                    .subject(user.getId().toString())
-                    .claim("email", user.getEmail())
-                    .claim("role", user.getRole().name())
-                    .issuedAt(now)
-                    .expiration(expiry)
-                    .signWith(secretKey)
+                    .header().keyId(signingKey.kid()).and()
+                    .id(UUID.randomUUID().toString())
+                    .subject(userId.toString())
+                    .claim("email", email)
+                    .claim("role", role.name())
+                    .issuedAt(new Date(now))
+                    .expiration(new Date(now + expirationTime))
+                    .signWith(signingKey, HmacSha256Algorithm.INSTANCE)
                     .compact();
         } catch (Exception e) {
             log.error("JWT 토큰 생성 실패: {}", e.getMessage(), e);
             throw new AuthException(ErrorCode.SYSTEM_003, e);
+        } finally {
+            signTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * JWT 토큰을 한 번 파싱/검증하여 인증 주체 정보 반환
+     * 하나의 요청에서 여러 클레임이 필요한 경우 이 메서드를 사용해 중복 검증을 피한다.
+     * 이미 검증된 토큰은 VerifiedTokenCache에서 바로 반환하며, 폐기 여부는 캐시 적중 시에도 항상 확인한다.
+     * 
+     * @param token JWT 토큰
+     * @return AuthenticatedPrincipal 인증 주체 (id, email, role, 만료 시각)
+     * @throws AuthException 토큰이 유효하지 않거나 만료되었거나 폐기된 경우
+     */
+    public AuthenticatedPrincipal authenticate(String token) {
+        AuthenticatedPrincipal principal = verifiedTokenCache.get(token);
+        if (principal == null) {
+            principal = toPrincipal(parseToken(token));
+            verifiedTokenCache.put(token, principal);
+        }
+
+        if (principal.getTokenId() != null
+                && tokenRevocationStore.isRevoked(principal.getTokenId(), principal.getExpiresAt())) {
+            // 재사용 시도마다 발생하므로 debug 로만 기록 (AUTH_006 은 JwtAuthenticationEntryPoint 가 샘플링해 기록)
+            log.debug("폐기된 JWT 토큰 사용: userId={}", principal.getUserId());
+            throw new AuthException(ErrorCode.AUTH_006);
+        }
+        return principal;
+    }
+
+    /**
+     * JWT 토큰 폐기 (로그아웃)
+     * 토큰 만료 시각까지 폐기 저장소에 보관되며, 이후 검증 요청은 AUTH_006으로 거부된다.
+     * jti 가 없는 토큰(jti 도입 전 발급)은 폐기할 수 없으므로 만료될 때까지 유효하다.
+     * 
+     * @param token JWT 토큰
+     * @return 폐기한 토큰의 인증 주체
+     * @throws AuthException 토큰이 유효하지 않거나 만료되었거나 이미 폐기된 경우
+     */
+    public AuthenticatedPrincipal revokeToken(String token) {
+        AuthenticatedPrincipal principal = authenticate(token);
+        if (principal.getTokenId() != null) {
+            tokenRevocationStore.revoke(principal.getTokenId(), principal.getExpiresAt());
+            verifiedTokenCache.invalidate(token);
+        } else {
+            log.debug("jti 없는 토큰은 폐기할 수 없음: userId={}", principal.getUserId());
+        }
+        return principal;
+    }
+
+    /**
+     * 검증된 Claims를 인증 주체로 변환
+     * 
+     * @param claims 서명 검증이 끝난 Claims
+     * @return AuthenticatedPrincipal
+     * @throws AuthException 필수 클레임이 없거나 형식이 잘못된 경우
+     */
+    private AuthenticatedPrincipal toPrincipal(Claims claims) {
+        try {
+            return AuthenticatedPrincipal.builder()
+                    .tokenId(claims.getId())  // jti 도입 전 발급된 토큰은 null (폐기 불가, 만료까지 허용)
+                    .userId(Long.parseLong(claims.getSubject()))
+                    .email(claims.get("email", String.class))
+                    .role(UserRole.valueOf(claims.get("role", String.class)))
+                    .expiresAt(claims.getExpiration().toInstant())
+                    .build();
+        } catch (RuntimeException e) {
+            // 서명은 유효하지만 필수 클레임이 없거나 형식이 잘못된 경우
+            log.debug("JWT 클레임 형식 오류: {}", e.getMessage());
+            JwtParseFailureEvent.start().fail(JwtParseFailureEvent.CLAIMS, ErrorCode.AUTH_006.getCode());
+            throw new AuthException(ErrorCode.AUTH_006);
         }
     }
 
@@ -78,8 +205,7 @@ public class JwtTokenProvider {
      * @throws AuthException 토큰이 유효하지 않거나 만료된 경우
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return Long.parseLong(claims.getSubject());
+        return authenticate(token).getUserId();
     }
 
     /**
@@ -90,8 +216,7 @@ public class JwtTokenProvider {
      * @throws AuthException 토큰이 유효하지 않거나 만료된 경우
      */
     public String getEmailFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("email", String.class);
+        return authenticate(token).getEmail();
     }
 
     /**
@@ -102,12 +227,8 @@ public class JwtTokenProvider {
      * @throws AuthException 토큰이 만료되었거나 유효하지 않은 경우
      */
     public boolean validateToken(String token) {
-        try {
-            parseToken(token);
-            return true;
-        } catch (AuthException e) {
-            throw e;
-        }
+        authenticate(token);
+        return true;
     }
 
     /**
@@ -118,19 +239,45 @@ public class JwtTokenProvider {
      * @throws AuthException 토큰이 만료되었거나 유효하지 않은 경우
      */
     private Claims parseToken(String token) {
+        long start = System.nanoTime();
+        JwtParseFailureEvent failureEvent = JwtParseFailureEvent.start();
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
+            return jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
-            log.warn("JWT 토큰 만료: {}", e.getMessage());
+            log.debug("JWT 토큰 만료: {}", e.getMessage());
+            failureEvent.fail(JwtParseFailureEvent.EXPIRED, ErrorCode.AUTH_005.getCode());
             throw new AuthException(ErrorCode.AUTH_005);
-        } catch (JwtException e) {
-            log.warn("유효하지 않은 JWT 토큰: {}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 JWT 토큰: {}", e.getMessage());
+            failureEvent.fail(failureCause(e), ErrorCode.AUTH_006.getCode());
             throw new AuthException(ErrorCode.AUTH_006);
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * JWT 검증 예외를 JFR 실패 원인으로 분류
+     * 
+     * @param e 파서 예외
+     * @return JwtParseFailureEvent 원인 상수
+     */
+    private static String failureCause(RuntimeException e) {
+        if (e instanceof SignatureException) {
+            return JwtParseFailureEvent.SIGNATURE;
+        }
+        if (e instanceof MalformedJwtException) {
+            return JwtParseFailureEvent.MALFORMED;
+        }
+        if (e instanceof UnsupportedJwtException) {
+            return JwtParseFailureEvent.UNSUPPORTED;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return JwtParseFailureEvent.EMPTY;
         }
+        return JwtParseFailureEvent.OTHER;
     }
 
     /**
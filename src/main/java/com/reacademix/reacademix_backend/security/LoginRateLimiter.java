@@ -0,0 +1,101 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.exception.RateLimitException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 요청 제한
+ * BCrypt 검증(AuthService.login) 전에 클라이언트 IP와 이메일별 토큰 버킷을 확인한다.
+ *
+ * - IP 버킷: 한 클라이언트가 여러 계정으로 BCrypt 풀을 점유하는 것을 방지
+ * - 이메일+IP 버킷: 한 IP에서 한 계정을 대상으로 하는 비밀번호 대입을 방지 (정규화된 이메일 + IP 기준)
+ * - 계정 버킷: 여러 IP로 분산된 한 계정 대상 대입을 방지 (정규화된 이메일 기준)
+ *   누구나 피해자 이메일로 요청을 보내 소진할 수 있으므로 이메일+IP 버킷보다 크게 잡아
+ *   분산 공격이 아닌 한 정상 사용자의 로그인을 막지 않도록 한다.
+ * - 모든 버킷이 허용할 때만 토큰을 소비 (뒤 버킷이 거부하면 앞서 소비한 토큰은 반환)
+ * - 초과 시 AUTH_007 (429) + Retry-After
+ * - 클라이언트 IP는 프록시 뒤에서 server.forward-headers-strategy 로 복원된 값을 사용 (application-prod.properties)
+ * - 버킷 상태는 RateLimitStore 구현에 따름 (기본 memory: 노드별 한도, 노드 수만큼 전체 허용량이 늘어남)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String IP_PREFIX = "ip:";
+    private static final String EMAIL_IP_PREFIX = "email-ip:";
+    private static final String ACCOUNT_PREFIX = "account:";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitStore rateLimitStore;
+    private final boolean enabled;
+    private final int ipCapacity;
+    private final long ipRefillNanos;
+    private final int emailCapacity;
+    private final long emailRefillNanos;
+    private final int accountCapacity;
+    private final long accountRefillNanos;
+
+    public LoginRateLimiter(
+            RateLimitStore rateLimitStore,
+            @Value("${security.login.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.login.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${security.login.rate-limit.ip.refill-interval:PT3S}") Duration ipRefillInterval,
+            @Value("${security.login.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${security.login.rate-limit.email.refill-interval:PT1M}") Duration emailRefillInterval,
+            @Value("${security.login.rate-limit.account.capacity:30}") int accountCapacity,
+            @Value("${security.login.rate-limit.account.refill-interval:PT20S}") Duration accountRefillInterval) {
+        this.rateLimitStore = rateLimitStore;
+        this.enabled = enabled;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillNanos = ipRefillInterval.toNanos();
+        this.emailCapacity = emailCapacity;
+        this.emailRefillNanos = emailRefillInterval.toNanos();
+        this.accountCapacity = accountCapacity;
+        this.accountRefillNanos = accountRefillInterval.toNanos();
+        log.info("로그인 요청 제한 설정: enabled={}, ip={}/{}, email={}/{}, account={}/{}",
+                enabled, ipCapacity, ipRefillInterval, emailCapacity, emailRefillInterval,
+                accountCapacity, accountRefillInterval);
+    }
+
+    /**
+     * 로그인 요청 허용 여부 확인 (모든 버킷이 허용하면 각 버킷에서 토큰 한 개씩 소비, 거부 시 소비 없음)
+     *
+     * @param clientIp 클라이언트 IP
+     * @param email 요청 이메일 (정규화 전 원문, null 이면 IP만 확인)
+     * @throws RateLimitException 한도 초과 시 (AUTH_007)
+     */
+    public void check(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        String ipKey = IP_PREFIX + clientIp;
+        long waitNanos = rateLimitStore.tryAcquire(ipKey, ipCapacity, ipRefillNanos);
+        if (waitNanos == 0 && email != null) {
+            String normalized = email.trim().toLowerCase(Locale.ROOT);
+            String accountKey = ACCOUNT_PREFIX + normalized;
+            waitNanos = rateLimitStore.tryAcquire(accountKey, accountCapacity, accountRefillNanos);
+            if (waitNanos == 0) {
+                waitNanos = rateLimitStore.tryAcquire(
+                        EMAIL_IP_PREFIX + normalized + "|" + clientIp, emailCapacity, emailRefillNanos);
+                if (waitNanos > 0) {
+                    rateLimitStore.release(accountKey, accountRefillNanos);
+                }
+            }
+            if (waitNanos > 0) {
+                rateLimitStore.release(ipKey, ipRefillNanos);
+            }
+        }
+        if (waitNanos > 0) {
+            throw new RateLimitException((waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.reacademix.reacademix_backend.security;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 키 하나에 대한 초기화된 Mac 인스턴스 풀
+ *
+ * Mac.getInstance(프로바이더 조회) + init(HMAC 키 패딩 계산)을 호출마다 하지 않도록
+ * 키를 설정한 Mac 을 고정 크기 슬롯에 보관하고 CAS 로 빌려주고 돌려받는다. (락 없음)
+ * doFinal 후 Mac 은 같은 키로 초기 상태로 돌아가므로 재초기화 없이 재사용된다.
+ *
+ * ThreadLocal 대신 풀을 사용하는 이유: 가상 스레드(virtual 프로파일)는 요청마다 새 스레드이므로
+ * ThreadLocal 이면 요청마다 Mac 을 새로 만들게 된다.
+ * 모든 슬롯이 비어 있으면 새로 만들고, 반납 시 빈 슬롯이 없으면 버린다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+final class MacPool {
+
+    private final String algorithm;
+    private final SecretKey key;
+    private final AtomicReferenceArray<Mac> slots;
+
+    MacPool(String algorithm, SecretKey key, int size) {
+        this.algorithm = algorithm;
+        this.key = key;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Mac 대여 (풀이 비어 있으면 새로 생성)
+     *
+     * @return 키가 설정된 Mac (사용 후 release 로 반납)
+     */
+    Mac acquire() {
+        int size = slots.length();
+        int start = start(size);
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            Mac mac = slots.get(index);
+            if (mac != null && slots.compareAndSet(index, mac, null)) {
+                return mac;
+            }
+        }
+        return newMac();
+    }
+
+    /**
+     * Mac 반납 (빈 슬롯이 없으면 버림)
+     *
+     * @param mac acquire 로 빌린 Mac
+     */
+    void release(Mac mac) {
+        int size = slots.length();
+        int start = start(size);
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, mac)) {
+                return;
+            }
+        }
+    }
+
+    /** 호출마다 임의의 슬롯부터 탐색하여 CAS 경합 분산 (가상 스레드는 스레드 ID 가 요청마다 바뀌므로 난수 사용) */
+    private static int start(int size) {
+        return ThreadLocalRandom.current().nextInt(size);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(algorithm + " Mac 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt 해시/검증 전용 실행기
+ *
+ * BCrypt 연산을 Tomcat 요청 스레드 대신 크기가 제한된 전용 스레드 풀에서 수행하여
+ * 로그인 폭주 시에도 CPU를 다른 API와 나눠 쓸 수 있도록 한다.
+ * - 대기 큐가 가득 차면 즉시 SYSTEM_004 (503) 반환 (backpressure)
+ * - 저장된 해시의 cost가 현재 strength보다 낮으면 로그인 시 재해시 대상으로 판단 (상향만, 노드 간 cost 왕복 방지)
+ * - 메트릭: security.password.hash (operation=verify|encode, 히스토그램), 큐 깊이/실행 중 작업 수, 거절 수
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final int poolSize;
+    private final long waitTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private static final String DUMMY_PASSWORD = "dummy-password-for-timing";
+
+    /**
+     * 존재하지 않는 계정에 대한 검증 시간을 실제 계정과 맞추기 위한 더미 해시
+     * 기동 시 현재 strength로 만들고, DummyHashAligner 가 저장된 해시 대부분의 cost로 교체한다.
+     */
+    private volatile String dummyHash;
+
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            BCryptStrengthCalibrator bcryptStrengthCalibrator,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.threads:0}") int threads,
+            @Value("${security.password.queue-capacity:200}") int queueCapacity,
+            @Value("${security.password.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = bcryptStrengthCalibrator.getStrength();
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        this.poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode(DUMMY_PASSWORD);
+
+        this.verifyTimer = hashTimer(meterRegistry, "verify");
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        Gauge.builder("security.password.queue.depth", this, PasswordHasher::getQueueDepth)
+                .description("BCrypt 작업 대기 큐 길이")
+                .register(meterRegistry);
+        Gauge.builder("security.password.active", this, PasswordHasher::getActiveCount)
+                .description("실행 중인 BCrypt 작업 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.password.rejected", this, PasswordHasher::getRejectedCount)
+                .description("큐 포화/대기 시간 초과로 거절된 BCrypt 요청 수")
+                .register(meterRegistry);
+        log.info("PasswordHasher 설정: strength={}, threads={}, queueCapacity={}", strength, poolSize, queueCapacity);
+    }
+
+    /**
+     * 평문 비밀번호와 저장된 해시 비교
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 일치하면 true
+     * @throws AuthException 대기 큐가 가득 찼거나 대기 시간을 초과한 경우 (SYSTEM_004)
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), verifyTimer);
+    }
+
+    /**
+     * 더미 해시와 비교 (결과는 항상 무시)
+     * 존재하지 않는 계정의 로그인 실패도 실제 계정과 같은 BCrypt 비용을 지불하게 하여
+     * 응답 시간으로 계정 존재 여부를 추측할 수 없게 한다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @throws AuthException 대기 큐가 가득 찼거나 대기 시간을 초과한 경우 (SYSTEM_004)
+     */
+    public void matchesDummy(CharSequence rawPassword) {
+        matches(rawPassword, dummyHash);
+    }
+
+    /**
+     * 더미 해시를 지정한 cost로 다시 생성
+     * 기존 사용자는 다음 로그인 성공 전까지 예전 cost를 유지하므로, 더미 해시 cost를 현재 strength가 아닌
+     * 저장된 해시 대부분의 cost에 맞춰야 "없는 이메일"과 "틀린 비밀번호"의 응답 시간이 같아진다.
+     *
+     * @param cost 적용할 BCrypt cost (4~31, 현재 더미 해시와 같으면 무시)
+     */
+    public void alignDummyHash(int cost) {
+        if (cost < 4 || cost > 31 || cost == costOf(dummyHash)) {
+            return;
+        }
+        int previous = costOf(dummyHash);
+        dummyHash = BCrypt.hashpw(DUMMY_PASSWORD, BCrypt.gensalt(cost));
+        log.info("더미 해시 cost 변경: {} -> {}", previous, cost);
+    }
+
+    /** 현재 더미 해시의 BCrypt cost */
+    public int getDummyStrength() {
+        return costOf(dummyHash);
+    }
+
+    /**
+     * 평문 비밀번호를 현재 strength로 해시
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     * @throws AuthException 대기 큐가 가득 찼거나 대기 시간을 초과한 경우 (SYSTEM_004)
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    /**
+     * 여러 평문 비밀번호를 해시 스레드 풀에서 병렬로 해시 (대량 등록용)
+     * 로그인 요청이 큐에서 밀리지 않도록 호출 측은 한 번에 getPoolSize() 개 이하로 나눠 호출한다.
+     *
+     * @param rawPasswords 평문 비밀번호 목록
+     * @return 입력 순서와 같은 순서의 BCrypt 해시 목록
+     * @throws AuthException 대기 큐가 가득 찼거나 대기 시간을 초과한 경우 (SYSTEM_004)
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                futures.add(submit(() -> passwordEncoder.encode(rawPassword), encodeTimer));
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(await(future, deadline));
+            }
+            return hashes;
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 strength보다 낮은지 확인 ($2a$10$... 형식)
+     * 더 높은 cost는 그대로 둔다. (보정 결과가 다른 노드끼리 로그인마다 재해시를 반복하거나 cost를 낮추지 않도록)
+     *
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 재해시가 필요하면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost < strength;
+    }
+
+    /**
+     * BCrypt 해시(또는 "$2a$10$" 접두사)에서 cost 추출
+     *
+     * @param encodedPassword BCrypt 해시
+     * @return cost (형식이 다르면 -1)
+     */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("security.password.hash")
+                .description("BCrypt 해시/검증 소요 시간 (스레드 풀 실행 시간, 대기 제외)")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private <T> T execute(Callable<T> task, Timer timer) {
+        Future<T> future = submit(task, timer);
+        return await(future, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis));
+    }
+
+    private <T> Future<T> submit(Callable<T> task, Timer timer) {
+        try {
+            return executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    hashCount.increment();
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulate(elapsed);
+                    timer.record(elapsed, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("비밀번호 해시 대기 큐 포화: queueDepth={}", getQueueDepth());
+            throw new AuthException(ErrorCode.SYSTEM_004);
+        }
+    }
+
+    private <T> T await(Future<T> future, long deadlineNanos) {
+        try {
+            return future.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            log.warn("비밀번호 해시 대기 시간 초과: {}ms", waitTimeoutMillis);
+            throw new AuthException(ErrorCode.SYSTEM_004);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new AuthException(ErrorCode.SYSTEM_004);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /** 현재 BCrypt strength */
+    public int getStrength() {
+        return strength;
+    }
+
+    /** 해시 스레드 수 */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /** 대기 중인 해시 작업 수 */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /** 실행 중인 해시 작업 수 */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /** 완료된 해시 작업 수 */
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    /** 해시 작업 총 소요 시간 (ns) */
+    public long getTotalHashNanos() {
+        return hashNanos.sum();
+    }
+
+    /** 해시 작업 최대 소요 시간 (ns) */
+    public long getMaxHashNanos() {
+        return maxHashNanos.get();
+    }
+
+    /** 큐 포화/대기 시간 초과로 거절된 요청 수 */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
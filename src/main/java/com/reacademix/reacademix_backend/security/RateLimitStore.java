@@ -0,0 +1,32 @@
+package com.reacademix.reacademix_backend.security;
+
+/**
+ * 키별 토큰 버킷 상태 저장소
+ * LoginRateLimiter가 로그인 요청마다 호출하므로 허용 경로는 I/O와 락 없이 동작해야 한다.
+ * 여러 노드가 같은 한도를 공유해야 하면 공유 저장소 구현으로 교체한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public interface RateLimitStore {
+
+    /**
+     * 토큰 한 개 소비 시도
+     *
+     * @param key 버킷 키 (예: "ip:10.0.0.1", "email-ip:user@academy.com|10.0.0.1")
+     * @param capacity 버킷 크기 (연속 허용 요청 수)
+     * @param refillIntervalNanos 토큰 한 개가 채워지는 간격 (나노초)
+     * @return 허용이면 0, 거부면 다음 토큰이 채워질 때까지 남은 나노초
+     */
+    long tryAcquire(String key, int capacity, long refillIntervalNanos);
+
+    /**
+     * 소비한 토큰 한 개 반환
+     * 여러 버킷을 차례로 확인하다 뒤 버킷이 거부했을 때 앞서 소비한 토큰을 되돌리는 데 사용한다.
+     * 버킷 크기를 넘어 충전되지는 않는다.
+     *
+     * @param key 버킷 키
+     * @param refillIntervalNanos tryAcquire 에 사용한 충전 간격 (나노초)
+     */
+    void release(String key, long refillIntervalNanos);
+}
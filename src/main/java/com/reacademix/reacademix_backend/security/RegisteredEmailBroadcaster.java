@@ -0,0 +1,28 @@
+package com.reacademix.reacademix_backend.security;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 가입 이메일 전파 채널
+ * 한 노드에서 가입/대량 등록된 이메일을 모든 노드의 RegisteredEmailFilter 에 추가하여,
+ * 다른 노드로 들어온 로그인이 재구성 주기 전까지 "없는 이메일"로 판정되지 않도록 한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public interface RegisteredEmailBroadcaster {
+
+    /**
+     * 가입 이메일 전파 (발신 노드를 포함한 모든 노드에 전달해야 함)
+     *
+     * @param email 정규화된(소문자) 이메일
+     */
+    void publish(String email);
+
+    /**
+     * 가입 이메일 수신 등록
+     *
+     * @param listener 수신한 이메일을 처리할 리스너
+     */
+    void subscribe(Consumer<String> listener);
+}
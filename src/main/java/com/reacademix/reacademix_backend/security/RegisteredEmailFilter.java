@@ -0,0 +1,176 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 Bloom filter (로그인 부정 조회 캐시)
+ *
+ * 존재하지 않는 이메일로 반복되는 로그인 요청이 매번 DB를 조회하지 않도록,
+ * Bloom filter에서 "확실히 없음"으로 판정된 이메일은 DB 조회를 생략한다.
+ * - 기동 시 users.email 전체로 초기화, 회원가입 시 RegisteredEmailBroadcaster 로 모든 노드에 추가
+ *   (한 노드에만 추가하면 다른 노드로 들어온 로그인이 재구성 전까지 AUTH_002로 거부됨)
+ * - 직접 INSERT로 추가된 이메일은 주기적 재구성으로 반영
+ * - 초기화 전이거나 비활성화 시에는 항상 "있을 수 있음"으로 판정 (DB 조회)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RegisteredEmailBroadcaster broadcaster;
+    private final boolean enabled;
+    private final int expectedInsertions;
+
+    /** 초기화 완료 전에는 null */
+    private volatile ConcurrentBloomFilter filter;
+
+    /** 재구성 중 추가된 이메일 (재구성 완료 후 새 필터에 반영) */
+    private volatile Set<String> rebuildBuffer;
+
+    private final AtomicLong registeredCount = new AtomicLong();
+    private final LongAdder lookupsAvoided = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public RegisteredEmailFilter(
+            UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            RegisteredEmailBroadcaster broadcaster,
+            @Value("${security.login.email-filter.enabled:true}") boolean enabled,
+            @Value("${security.login.email-filter.expected-insertions:100000}") int expectedInsertions) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.broadcaster = broadcaster;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        broadcaster.subscribe(this::addLocal);
+    }
+
+    /**
+     * 가입 여부 판정
+     *
+     * @param email 정규화된(소문자) 이메일
+     * @return false면 확실히 가입되지 않은 이메일 (DB 조회 생략 가능)
+     */
+    public boolean mightContain(String email) {
+        ConcurrentBloomFilter current = filter;
+        if (current == null || current.mightContain(email)) {
+            return true;
+        }
+        lookupsAvoided.increment();
+        return false;
+    }
+
+    /**
+     * 가입된 이메일 추가 (회원가입 시 호출, 모든 노드의 필터에 전파)
+     *
+     * @param email 정규화된(소문자) 이메일
+     */
+    public void add(String email) {
+        broadcaster.publish(email);
+    }
+
+    private void addLocal(String email) {
+        ConcurrentBloomFilter current = filter;
+        if (current != null) {
+            current.put(email);
+            registeredCount.incrementAndGet();
+        }
+        Set<String> buffer = rebuildBuffer;
+        if (buffer != null) {
+            buffer.add(email);
+        }
+    }
+
+    /**
+     * Bloom filter는 통과했지만 DB에 없던 경우 기록 (오탐)
+     */
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * 기동 완료 시 users.email 전체로 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * users.email 전체로 필터 재구성 (다른 노드 가입분 반영, 오탐률 유지)
+     */
+    @Scheduled(
+            initialDelayString = "${security.login.email-filter.rebuild-interval-ms:600000}",
+            fixedDelayString = "${security.login.email-filter.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        Set<String> buffer = ConcurrentHashMap.newKeySet();
+        rebuildBuffer = buffer;
+        try {
+            long size = Math.max(expectedInsertions, userRepository.count() * 2);
+            ConcurrentBloomFilter next = new ConcurrentBloomFilter((int) Math.min(size, Integer.MAX_VALUE / 16), FALSE_POSITIVE_RATE);
+            AtomicLong loaded = new AtomicLong();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.forEach(email -> {
+                        next.put(email);
+                        loaded.incrementAndGet();
+                    });
+                }
+            });
+
+            buffer.forEach(next::put);
+            filter = next;
+            buffer.forEach(next::put);  // 교체 직전 추가된 이메일 반영
+            registeredCount.set(loaded.get() + buffer.size());
+            log.info("가입 이메일 필터 구성 완료: {}건, {}ms", loaded.get(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildBuffer = null;
+        }
+    }
+
+    /** 필터 사용 가능 여부 (초기화 완료) */
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    /** Bloom filter 판정으로 생략한 DB 조회 수 */
+    public long getLookupsAvoided() {
+        return lookupsAvoided.sum();
+    }
+
+    /** Bloom filter 오탐 수 (통과했지만 DB에 없던 경우) */
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    /** 필터에 등록된 이메일 수 (근사치) */
+    public long getRegisteredCount() {
+        return registeredCount.get();
+    }
+}
@@ -0,0 +1,31 @@
+package com.reacademix.reacademix_backend.security;
+
+import java.time.Instant;
+
+/**
+ * 폐기(로그아웃)된 JWT 토큰 저장소
+ * JwtTokenProvider가 토큰 검증 시마다 조회하므로 isRevoked는 I/O 없이 동작해야 한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 토큰 폐기 등록
+     * 토큰 만료 시각이 지나면 저장소에서 자동으로 제거된다.
+     *
+     * @param tokenId 토큰 ID (jti 클레임)
+     * @param expiresAt 토큰 만료 시각
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * 토큰 폐기 여부 확인
+     *
+     * @param tokenId 토큰 ID (jti 클레임)
+     * @param expiresAt 토큰 만료 시각 (저장 버킷 선택에 사용)
+     * @return 폐기된 토큰이면 true
+     */
+    boolean isRevoked(String tokenId, Instant expiresAt);
+}
@@ -0,0 +1,118 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자 ID별 현재 계정 정보(역할, 상태) 캐시
+ * 보호된 엔드포인트가 요청마다 users 테이블을 조회하지 않고 비활성화 계정을 거부할 수 있도록 한다.
+ *
+ * - 값: UserProfile Projection (비밀번호 해시 미포함, 존재하지 않는 사용자는 캐시하지 않음)
+ * - 무효화: 상태/역할 변경 트랜잭션 커밋 후 로컬 엔트리 제거 + 다른 노드로 전파
+ * - 크기/만료: maximum-size, ttl 로 제한 (전파가 유실되어도 TTL 이후에는 DB 값 반영)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class UserIdentityCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final UserIdentityInvalidationBroadcaster broadcaster;
+    private final boolean enabled;
+    private final Cache<Long, UserProfile> cache;
+
+    public UserIdentityCache(
+            UserRepository userRepository,
+            UserIdentityInvalidationBroadcaster broadcaster,
+            @Value("${user.identity-cache.enabled:true}") boolean enabled,
+            @Value("${user.identity-cache.maximum-size:10000}") long maximumSize,
+            @Value("${user.identity-cache.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.broadcaster = broadcaster;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        broadcaster.subscribe(cache::invalidate);
+        log.info("사용자 식별 정보 캐시 설정: enabled={}, maximumSize={}, ttl={}", enabled, maximumSize, ttl);
+    }
+
+    /**
+     * 사용자 계정 정보 조회 (캐시 미스 시 DB 조회 후 저장)
+     *
+     * @param userId 사용자 ID
+     * @return 계정 정보 (존재하지 않는 사용자면 null)
+     */
+    public UserProfile get(Long userId) {
+        if (!enabled) {
+            return userRepository.findProfileById(userId).orElse(null);
+        }
+        return cache.get(userId, id -> userRepository.findProfileById(id).orElse(null));
+    }
+
+    /**
+     * 상태/역할 변경 커밋 후 무효화
+     * 트랜잭션 밖에서 발행된 이벤트도 즉시 처리한다.
+     *
+     * @param event 사용자 식별 정보 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIdentityChanged(UserIdentityChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    /**
+     * 로컬 엔트리 제거 후 다른 노드로 무효화 전파
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        broadcaster.publish(userId);
+    }
+
+    /**
+     * 캐시 통계 (hit/miss/eviction 카운트, hitRate)
+     *
+     * @return CacheStats 스냅샷
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시된 엔트리 수 (근사치)
+     *
+     * @return 엔트리 수
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 캐시 메트릭 등록 (cache.gets{result=hit|miss}, cache.evictions, cache.size 등, cache="user.identity")
+     * 스크레이프 시점에 통계를 읽으므로 요청 경로 비용은 없다.
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user.identity");
+    }
+}
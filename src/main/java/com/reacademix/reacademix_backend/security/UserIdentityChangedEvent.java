@@ -0,0 +1,13 @@
+package com.reacademix.reacademix_backend.security;
+
+/**
+ * 사용자 계정 상태 또는 역할 변경 이벤트
+ * 트랜잭션 커밋 후 UserIdentityCache가 해당 사용자 엔트리를 무효화하고 다른 노드에 전파한다.
+ *
+ * @param userId 변경된 사용자 ID
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public record UserIdentityChangedEvent(Long userId) {
+}
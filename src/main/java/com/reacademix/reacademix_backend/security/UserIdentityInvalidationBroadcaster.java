@@ -0,0 +1,27 @@
+package com.reacademix.reacademix_backend.security;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 UserIdentityCache 무효화 전파 채널
+ * 한 노드에서 계정 상태/역할이 바뀌면 다른 노드의 캐시 엔트리도 TTL 전에 제거되도록 사용자 ID를 전파한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public interface UserIdentityInvalidationBroadcaster {
+
+    /**
+     * 무효화 메시지 전파 (발신 노드 자신에게 전달되어도 무방)
+     *
+     * @param userId 무효화할 사용자 ID
+     */
+    void publish(Long userId);
+
+    /**
+     * 무효화 메시지 수신 등록
+     *
+     * @param listener 수신한 사용자 ID를 처리할 리스너
+     */
+    void subscribe(Consumer<Long> listener);
+}
@@ -0,0 +1,200 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰의 인증 주체를 보관하는 캐시
+ * 같은 토큰이 반복 전송될 때 Base64 디코딩, JSON 파싱, HMAC 검증을 생략한다.
+ *
+ * - 키: 토큰 원문의 SHA-256 다이제스트 (토큰 원문은 메모리에 보관하지 않음)
+ * - 만료: 각 엔트리는 토큰의 exp 시각에 만료 (남은 시간은 JWT 발급과 같은 공용 Clock 기준)
+ * - 크기: maximum-size 로 제한 (Caffeine W-TinyLFU 축출)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    /**
+     * MessageDigest는 스레드 안전하지 않으므로 호출마다 원본을 복제해 사용
+     * (가상 스레드는 요청마다 새로 생성되므로 ThreadLocal 캐시가 재사용되지 않음, 복제는 Provider 조회 없이 상태만 복사)
+     */
+    private static final MessageDigest SHA_256;
+
+    static {
+        try {
+            SHA_256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<String, AuthenticatedPrincipal> cache;
+
+    public VerifiedTokenCache(
+            Clock clock,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(clock))
+                .recordStats()
+                .build();
+        log.info("JWT 검증 캐시 설정: enabled={}, maximumSize={}", enabled, maximumSize);
+    }
+
+    /**
+     * 캐시를 사용하지 않는 인스턴스 생성 (테스트, 벤치마크용)
+     *
+     * @return 비활성화된 VerifiedTokenCache
+     */
+    public static VerifiedTokenCache disabled() {
+        return new VerifiedTokenCache(Clock.systemDefaultZone(), false, 0);
+    }
+
+    /**
+     * 검증된 인증 주체 조회
+     *
+     * @param token JWT 토큰
+     * @return 캐시된 인증 주체 (없거나 만료되었거나 캐시 비활성화 시 null)
+     */
+    public AuthenticatedPrincipal get(String token) {
+        if (!enabled || token == null) {
+            return null;
+        }
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * 검증된 인증 주체 저장
+     *
+     * @param token JWT 토큰
+     * @param principal 서명 검증이 끝난 인증 주체
+     */
+    public void put(String token, AuthenticatedPrincipal principal) {
+        if (!enabled) {
+            return;
+        }
+        cache.put(digest(token), principal);
+    }
+
+    /**
+     * 특정 토큰의 캐시 엔트리 제거
+     *
+     * @param token JWT 토큰
+     */
+    public void invalidate(String token) {
+        if (!enabled) {
+            return;
+        }
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * 전체 캐시 엔트리 제거 (JWT 키 링 재적재 시, 삭제된 키로 서명된 토큰이 캐시에서 통과하지 않도록)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 사용 여부
+     *
+     * @return 활성화되어 있으면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 통계 (hit/miss/eviction 카운트)
+     *
+     * @return CacheStats 스냅샷
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시된 엔트리 수 (근사치)
+     *
+     * @return 엔트리 수
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 캐시 메트릭 등록 (cache.gets{result=hit|miss}, cache.evictions, cache.size 등, cache="jwt.verified-token")
+     * 스크레이프 시점에 통계를 읽으므로 요청 경로 비용은 없다.
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.verified-token");
+    }
+
+    private String digest(String token) {
+        byte[] hash = sha256().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 MessageDigest를 복제할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 엔트리별 만료 정책: 토큰의 exp 시각까지 남은 시간
+     */
+    private static class TokenExpiry implements Expiry<String, AuthenticatedPrincipal> {
+
+        private final Clock clock;
+
+        private TokenExpiry(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, AuthenticatedPrincipal principal, long currentTime) {
+            long remainingMillis = principal.getExpiresAt().toEpochMilli() - clock.millis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AuthenticatedPrincipal principal,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AuthenticatedPrincipal principal,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,22 +1,29 @@
 package com.reacademix.reacademix_backend.service;
 
-import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.common.CachedClock;
 import com.reacademix.reacademix_backend.domain.user.UserStatus;
 import com.reacademix.reacademix_backend.dto.request.LoginRequestDto;
 import com.reacademix.reacademix_backend.dto.response.LoginResponseDto;
 import com.reacademix.reacademix_backend.exception.AuthException;
 import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.jfr.LoginStageEvent;
 import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.repository.projection.LoginCredential;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import com.reacademix.reacademix_backend.security.AuthenticatedPrincipal;
 import com.reacademix.reacademix_backend.security.JwtTokenProvider;
+import com.reacademix.reacademix_backend.security.PasswordHasher;
+import com.reacademix.reacademix_backend.security.RegisteredEmailFilter;
+import com.reacademix.reacademix_backend.security.UserIdentityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
 
 /**
  * 인증 관련 비즈니스 로직을 처리하는 Service 클래스
- * 로그인, 로그아웃 등 인증 관련 기능 제공
+ * 로그인, 토큰 재발급 등 인증 관련 기능 제공
  * 
  * @author Backend Team
  * @version 1.0
@@ -24,70 +31,186 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final RefreshTokenService refreshTokenService;
+    private final UserIdentityCache userIdentityCache;
+    private final Clock clock;
 
     /**
      * 사용자 로그인 처리
      * 
      * 처리 순서:
      * 1. 이메일 정규화 (소문자 변환)
-     * 2. 사용자 조회 (Repository Layer 호출)
+     * 2. 사용자 조회 (로그인 Projection, 짧은 읽기 전용 트랜잭션 후 커넥션 반환)
+     *    - 가입 이메일 필터에서 확실히 없는 이메일은 DB 조회 생략
+     *    - 계정이 없어도 더미 BCrypt 검증을 수행하여 실패 응답 시간을 균일하게 유지
      * 3. 계정 상태 확인 (ACTIVE 여부)
-     * 4. 비밀번호 검증 (BCrypt)
-     * 5. JWT 토큰 생성
+     * 4. 비밀번호 검증 (BCrypt, 전용 스레드 풀)
+     *    - 저장된 해시의 cost가 현재 strength와 다르면 재해시하여 저장 (별도 짧은 쓰기 트랜잭션)
+     * 5. JWT 토큰 + 리프레시 토큰 발급
      * 6. 응답 DTO 생성
      * 
+     * BCrypt 검증과 토큰 서명은 CPU 작업이므로 트랜잭션 밖에서 수행하여
+     * 그 동안 DB 커넥션을 점유하지 않는다.
+     * 
+     * 2~5 단계는 각각 LoginStageEvent(JFR)로 기록되어 지연 구간을 단계별로 구분할 수 있다.
+     * 실패 로그는 GlobalExceptionHandler 에서 SampledErrorLogger 로 ErrorCode별 샘플링되므로
+     * 여기서는 건마다 남기지 않으며, 로그에는 이메일 대신 사용자 ID만 남긴다.
+     * 
      * @param request 로그인 요청 DTO (email, password)
      * @return LoginResponseDto 로그인 응답 (token, user 정보)
-     * @throws AuthException 인증 실패 시 (AUTH_002, AUTH_003, AUTH_004)
+     * @throws AuthException 인증 실패 시 (AUTH_002, AUTH_003, AUTH_004), 해시 대기 큐 포화 시 (SYSTEM_004)
      */
-    @Transactional
     public LoginResponseDto login(LoginRequestDto request) {
         // 1. 이메일 정규화 (소문자 변환 및 공백 제거)
         String email = request.getEmail().toLowerCase().trim();
-        log.debug("로그인 시도: {}", email);
 
         // 2. 사용자 조회 (Repository Layer 호출)
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.warn("로그인 실패: 이메일 없음 - {}", email);
-                    return new AuthException(ErrorCode.AUTH_002);
-                });
+        LoginCredential credential;
+        LoginStageEvent lookup = LoginStageEvent.start(LoginStageEvent.LOOKUP);
+        try {
+            if (!registeredEmailFilter.mightContain(email)) {
+                throw userNotFound(request.getPassword());
+            }
+            credential = userRepository.findLoginCredentialByEmail(email)
+                    .orElseThrow(() -> {
+                        registeredEmailFilter.recordFalsePositive();
+                        return userNotFound(request.getPassword());
+                    });
+            lookup.succeeded();
+        } finally {
+            lookup.finish();
+        }
 
         // 3. 계정 상태 확인 (ACTIVE 여부)
-        if (user.getStatus() != UserStatus.ACTIVE) {
-            log.warn("로그인 실패: 계정 비활성화 - {}, 상태: {}", email, user.getStatus());
-            throw new AuthException(ErrorCode.AUTH_004);
+        LoginStageEvent statusCheck = LoginStageEvent.start(LoginStageEvent.STATUS_CHECK);
+        try {
+            if (credential.status() != UserStatus.ACTIVE) {
+                // 비밀번호 불일치와 같은 BCrypt 비용을 지불한 뒤 거부 (응답 시간으로 계정 상태 추측 방지, 결과 무시)
+                passwordHasher.matches(request.getPassword(), credential.passwordHash());
+                log.debug("로그인 실패: 계정 비활성화 - userId={}, 상태: {}", credential.id(), credential.status());
+                throw new AuthException(ErrorCode.AUTH_004);
+            }
+            statusCheck.succeeded();
+        } finally {
+            statusCheck.finish();
         }
 
         // 4. 비밀번호 검증 (BCrypt 사용)
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            log.warn("로그인 실패: 비밀번호 불일치 - {}", email);
-            throw new AuthException(ErrorCode.AUTH_003);
+        LoginStageEvent passwordVerify = LoginStageEvent.start(LoginStageEvent.PASSWORD_VERIFY);
+        try {
+            if (!passwordHasher.matches(request.getPassword(), credential.passwordHash())) {
+                log.debug("로그인 실패: 비밀번호 불일치 - userId={}", credential.id());
+                throw new AuthException(ErrorCode.AUTH_003);
+            }
+            if (passwordHasher.needsRehash(credential.passwordHash())) {
+                userRepository.updatePassword(credential.id(),
+                        passwordHasher.encode(request.getPassword()), CachedClock.localDateTime(clock));
+                log.info("비밀번호 재해시: userId={} (strength={})", credential.id(), passwordHasher.getStrength());
+            }
+            passwordVerify.succeeded();
+        } finally {
+            passwordVerify.finish();
         }
 
-        // 5. JWT 토큰 생성
-        String token = jwtTokenProvider.generateToken(user);
-        long expiresIn = jwtTokenProvider.getExpirationTimeInSeconds();
+        // 5. JWT 토큰 + 리프레시 토큰 발급
+        String token;
+        String refreshToken;
+        LoginStageEvent tokenIssue = LoginStageEvent.start(LoginStageEvent.TOKEN_ISSUE);
+        try {
+            token = jwtTokenProvider.generateToken(
+                    credential.id(), credential.email(), credential.role());
+            refreshToken = refreshTokenService.issue(credential.id());
+            tokenIssue.succeeded();
+        } finally {
+            tokenIssue.finish();
+        }
 
-        log.info("로그인 성공: {}", email);
+        log.debug("로그인 성공: userId={}", credential.id());
 
         // 6. 응답 DTO 생성 및 반환
+        return toResponse(token, refreshToken, credential.id(), credential.email(), credential.name());
+    }
+
+    /**
+     * 리프레시 토큰으로 토큰 재발급
+     * 
+     * 처리 순서:
+     * 1. 리프레시 토큰 사용 처리 (SHA-256 해시 조회 후 삭제, 1회용)
+     * 2. 계정 상태 확인 (UserIdentityCache, 상태 변경 커밋 시 무효화)
+     * 3. 새 JWT 토큰 + 새 리프레시 토큰 발급 (rotation)
+     * 
+     * 비밀번호 검증(BCrypt)을 거치지 않으므로 짧은 access token 만료 후에도 재로그인 비용이 들지 않는다.
+     * 
+     * @param refreshToken 리프레시 토큰
+     * @return LoginResponseDto 재발급 응답 (token, refreshToken, user 정보)
+     * @throws AuthException 리프레시 토큰이 유효하지 않은 경우 (AUTH_008), 계정 비활성화 (AUTH_004)
+     */
+    public LoginResponseDto refresh(String refreshToken) {
+        Long userId = refreshTokenService.consume(refreshToken);
+
+        UserProfile profile = userIdentityCache.get(userId);
+        if (profile == null) {
+            throw new AuthException(ErrorCode.AUTH_008);
+        }
+        if (profile.status() != UserStatus.ACTIVE) {
+            log.debug("토큰 재발급 실패: 계정 비활성화 - userId={}, 상태: {}", userId, profile.status());
+            throw new AuthException(ErrorCode.AUTH_004);
+        }
+
+        String token = jwtTokenProvider.generateToken(profile.id(), profile.email(), profile.role());
+        String nextRefreshToken = refreshTokenService.issue(userId);
+        return toResponse(token, nextRefreshToken, profile.id(), profile.email(), profile.name());
+    }
+
+    /**
+     * 로그아웃
+     * access token 을 만료 시각까지 폐기하고, 리프레시 토큰이 함께 전달되면 해당 세션도 삭제한다.
+     * 
+     * @param accessToken Authorization 헤더의 JWT 토큰
+     * @param refreshToken 리프레시 토큰 (null 이면 세션 유지)
+     * @throws AuthException 토큰이 없는 경우 (AUTH_001), 만료되었거나 유효하지 않은 경우 (AUTH_005, AUTH_006)
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken == null) {
+            throw new AuthException(ErrorCode.AUTH_001);
+        }
+        AuthenticatedPrincipal principal = jwtTokenProvider.revokeToken(accessToken);
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken, principal.getUserId());
+        }
+        log.debug("로그아웃: userId={}", principal.getUserId());
+    }
+
+    private LoginResponseDto toResponse(String token, String refreshToken, Long userId, String email, String name) {
         return LoginResponseDto.builder()
                 .token(token)
                 .tokenType("Bearer")
-                .expiresIn(expiresIn)
+                .expiresIn(jwtTokenProvider.getExpirationTimeInSeconds())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpirationTimeInSeconds())
                 .user(LoginResponseDto.UserInfo.builder()
-                        .userId(user.getId())
-                        .email(user.getEmail())
-                        .name(user.getName())
+                        .userId(userId)
+                        .email(email)
+                        .name(name)
                         .build())
                 .build();
     }
-}
 
+    /**
+     * 존재하지 않는 이메일 로그인 실패 처리
+     * 실제 계정의 비밀번호 불일치와 같은 BCrypt 비용을 지불한 뒤 AUTH_002 반환
+     * 
+     * @param rawPassword 평문 비밀번호
+     * @return AuthException (AUTH_002)
+     */
+    private AuthException userNotFound(String rawPassword) {
+        passwordHasher.matchesDummy(rawPassword);
+        return new AuthException(ErrorCode.AUTH_002);
+    }
+}
@@ -0,0 +1,218 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reacademix.reacademix_backend.dto.request.BulkUserRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * 대량 사용자 등록 입력을 한 행씩 읽는 스트리밍 리더
+ * 입력 전체를 메모리에 올리지 않고 요청 본문에서 필요한 만큼만 읽는다.
+ *
+ * - CSV: 첫 줄은 헤더 (email,password,name[,role], 순서 무관), 큰따옴표로 감싼 필드 지원
+ * - JSON: BulkUserRequest 객체의 배열
+ *
+ * 헤더/배열 시작 형식 오류는 생성 시점에 IllegalArgumentException,
+ * 읽는 도중의 형식 오류는 UncheckedIOException 으로 전달된다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+public abstract class BulkUserReader implements Iterator<BulkUserRequest>, Closeable {
+
+    private BulkUserRequest next;
+
+    /**
+     * CSV 리더 생성 (UTF-8)
+     *
+     * @param inputStream 요청 본문
+     * @return BulkUserReader
+     * @throws IOException 헤더를 읽지 못한 경우
+     */
+    public static BulkUserReader csv(InputStream inputStream) throws IOException {
+        return new CsvReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * JSON 배열 리더 생성
+     *
+     * @param inputStream 요청 본문
+     * @param objectMapper 행 역직렬화에 사용할 ObjectMapper
+     * @return BulkUserReader
+     * @throws IOException 배열 시작을 읽지 못한 경우
+     */
+    public static BulkUserReader json(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        return new JsonArrayReader(objectMapper, objectMapper.getFactory().createParser(inputStream));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public BulkUserRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BulkUserRequest current = next;
+        next = null;
+        return current;
+    }
+
+    /**
+     * 다음 행 읽기
+     *
+     * @return 다음 행 (입력 끝이면 null)
+     */
+    protected abstract BulkUserRequest readNext() throws IOException;
+
+    private static final class CsvReader extends BulkUserReader {
+
+        private final BufferedReader reader;
+        private final int emailIndex;
+        private final int passwordIndex;
+        private final int nameIndex;
+        private final int roleIndex;
+
+        private CsvReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+                header = header.substring(1);
+            }
+            List<String> columns = new ArrayList<>();
+            for (String column : split(header)) {
+                columns.add(column.trim().toLowerCase(Locale.ROOT));
+            }
+            this.emailIndex = requireColumn(columns, "email");
+            this.passwordIndex = requireColumn(columns, "password");
+            this.nameIndex = requireColumn(columns, "name");
+            this.roleIndex = columns.indexOf("role");
+        }
+
+        private static int requireColumn(List<String> columns, String name) {
+            int index = columns.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 " + name + " 컬럼이 없습니다.");
+            }
+            return index;
+        }
+
+        @Override
+        protected BulkUserRequest readNext() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            List<String> fields = split(line);
+            return BulkUserRequest.builder()
+                    .email(field(fields, emailIndex))
+                    .password(field(fields, passwordIndex))
+                    .name(field(fields, nameIndex))
+                    .role(field(fields, roleIndex))
+                    .build();
+        }
+
+        private static String field(List<String> fields, int index) {
+            if (index < 0 || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * CSV 한 줄을 필드로 분리 (큰따옴표 이스케이프 "" 지원, 필드 내 줄바꿈 미지원)
+         */
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class JsonArrayReader extends BulkUserReader {
+
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+
+        private JsonArrayReader(ObjectMapper objectMapper, JsonParser parser) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = parser;
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 본문은 배열이어야 합니다.");
+            }
+        }
+
+        @Override
+        protected BulkUserRequest readNext() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            return objectMapper.readValue(parser, BulkUserRequest.class);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.reacademix.reacademix_backend.common.CachedClock;
+import com.reacademix.reacademix_backend.domain.token.RefreshToken;
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 세션 관리 Service 클래스
+ *
+ * - 발급: 256비트 난수를 Base64URL 문자열로 반환하고, DB에는 SHA-256 해시만 저장
+ * - 재발급: 해시 한 번 계산 + 유니크 인덱스 조회로 확인 (BCrypt 검증 없음), 사용한 토큰은 즉시 삭제 (1회용)
+ * - 정리: 만료된 행을 배치 단위로 삭제 (배치마다 별도 트랜잭션으로 잠금 시간 최소화)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Clock clock;
+    private final Duration expiration;
+    private final int purgeBatchSize;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            Clock clock,
+            @Value("${jwt.refresh.expiration:1209600000}") long expirationMillis,
+            @Value("${jwt.refresh.purge-batch-size:1000}") int purgeBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clock = clock;
+        this.expiration = Duration.ofMillis(expirationMillis);
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /**
+     * 리프레시 토큰 발급
+     *
+     * @param userId 사용자 ID
+     * @return 리프레시 토큰 원문 (응답으로만 전달되고 저장되지 않음)
+     */
+    @Transactional
+    public String issue(Long userId) {
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String token = TOKEN_ENCODER.encodeToString(random);
+
+        LocalDateTime now = CachedClock.localDateTime(clock);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .userId(userId)
+                .expiresAt(now.plus(expiration))
+                .createdAt(now)
+                .build());
+        return token;
+    }
+
+    /**
+     * 리프레시 토큰 사용 처리 (확인 후 삭제)
+     * 같은 토큰으로 동시에 요청하면 한 요청만 성공한다.
+     *
+     * @param token 리프레시 토큰 원문
+     * @return 세션의 사용자 ID
+     * @throws AuthException 없거나 만료되었거나 이미 사용된 토큰인 경우 (AUTH_008)
+     */
+    @Transactional
+    public Long consume(String token) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new AuthException(ErrorCode.AUTH_008));
+        if (!refreshToken.getExpiresAt().isAfter(CachedClock.localDateTime(clock))
+                || refreshTokenRepository.deleteUsed(refreshToken.getId()) == 0) {
+            throw new AuthException(ErrorCode.AUTH_008);
+        }
+        return refreshToken.getUserId();
+    }
+
+    /**
+     * 리프레시 토큰 세션 삭제 (로그아웃)
+     * 다른 사용자의 세션은 삭제하지 않으며, 없거나 이미 사용된 토큰은 무시한다.
+     *
+     * @param token 리프레시 토큰 원문
+     * @param userId 로그아웃하는 사용자 ID (access token 기준)
+     */
+    @Transactional
+    public void revoke(String token, Long userId) {
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .filter(refreshToken -> refreshToken.getUserId().equals(userId))
+                .ifPresent(refreshToken -> refreshTokenRepository.deleteUsed(refreshToken.getId()));
+    }
+
+    /**
+     * 사용자의 전체 세션 폐기 (계정 비활성화 등)
+     *
+     * @param userId 사용자 ID
+     * @return 삭제된 세션 수
+     */
+    @Transactional
+    public int revokeAll(Long userId) {
+        return refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * 만료된 세션 정리
+     * 한 번에 purge-batch-size 행씩 조회/삭제하며, 배치마다 커밋하여 긴 잠금을 만들지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = CachedClock.localDateTime(clock);
+        PageRequest batch = PageRequest.of(0, purgeBatchSize);
+        long deleted = 0;
+        List<Long> ids;
+        do {
+            ids = refreshTokenRepository.findExpiredIds(now, batch);
+            if (!ids.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == purgeBatchSize);
+
+        if (deleted > 0) {
+            log.debug("만료된 리프레시 토큰 삭제 완료: {}건", deleted);
+        }
+    }
+
+    /**
+     * 리프레시 토큰 만료 시간(초) 반환
+     *
+     * @return 만료 시간(초 단위)
+     */
+    public long getExpirationTimeInSeconds() {
+        return expiration.toSeconds();
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 JVM", e);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.reacademix.reacademix_backend.common.CachedClock;
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.dto.request.BulkUserRequest;
+import com.reacademix.reacademix_backend.dto.response.BulkUserResult;
+import com.reacademix.reacademix_backend.dto.response.BulkUserSummary;
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.repository.UserBatchRepository;
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.security.PasswordHasher;
+import com.reacademix.reacademix_backend.security.RegisteredEmailFilter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 대량 사용자 등록 Service
+ *
+ * 입력을 batch-size 행씩 끊어 처리하여 메모리 사용량을 입력 크기와 무관하게 유지한다.
+ * 배치마다:
+ * 1. 행 검증 + 배치 내 이메일 중복 제거
+ * 2. 기존 가입 이메일을 한 번의 IN 쿼리로 확인 (앞 배치에서 등록한 이메일도 여기서 걸러짐)
+ * 3. 비밀번호를 PasswordHasher 스레드 풀에서 병렬 해시 (풀 크기만큼씩 나눠 로그인 요청과 큐를 공유)
+ * 4. 하나의 JDBC 배치로 INSERT (동시 가입으로 unique 제약 위반 시 해당 배치만 행 단위로 재시도)
+ * 행별 결과는 입력 순서대로 sink 에 전달된다.
+ * 응답이 이미 스트리밍 중이므로 배치의 DB 오류는 예외로 던지지 않고 해당 배치 행을 FAILED 로 기록한 뒤 다음 배치를 계속 처리한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class UserProvisioningService {
+
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final PasswordHasher passwordHasher;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final Clock clock;
+    private final int batchSize;
+
+    public UserProvisioningService(
+            UserRepository userRepository,
+            UserBatchRepository userBatchRepository,
+            PasswordHasher passwordHasher,
+            RegisteredEmailFilter registeredEmailFilter,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            Clock clock,
+            @Value("${user.provisioning.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.userBatchRepository = userBatchRepository;
+        this.passwordHasher = passwordHasher;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.clock = clock;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 대량 사용자 등록
+     *
+     * @param rows 등록할 행 (스트리밍 입력)
+     * @param sink 행별 처리 결과를 받는 콜백 (입력 순서대로 호출)
+     * @return BulkUserSummary 처리 요약
+     */
+    public BulkUserSummary provision(Iterator<BulkUserRequest> rows, Consumer<BulkUserResult> sink) {
+        List<Row> chunk = new ArrayList<>(batchSize);
+        long[] counts = new long[BulkUserResult.Status.values().length];
+        long rowNumber = 0;
+        boolean aborted = false;
+
+        while (true) {
+            BulkUserRequest request;
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                request = rows.next();
+            } catch (UncheckedIOException e) {
+                // 형식 오류 이전까지 읽은 행은 정상 처리하고 중단
+                aborted = true;
+                log.warn("대량 등록 입력 형식 오류로 중단: row={}, {}", rowNumber + 1, e.getMessage());
+                break;
+            }
+            chunk.add(new Row(++rowNumber, request));
+            if (chunk.size() == batchSize) {
+                processChunk(chunk);
+                emit(chunk, sink, counts);
+                chunk.clear();
+            }
+        }
+        processChunk(chunk);
+        emit(chunk, sink, counts);
+
+        BulkUserSummary summary = BulkUserSummary.builder()
+                .total(rowNumber)
+                .created(counts[BulkUserResult.Status.CREATED.ordinal()])
+                .duplicate(counts[BulkUserResult.Status.DUPLICATE.ordinal()])
+                .invalid(counts[BulkUserResult.Status.INVALID.ordinal()])
+                .failed(counts[BulkUserResult.Status.FAILED.ordinal()])
+                .aborted(aborted)
+                .build();
+        log.info("대량 등록 완료: total={}, created={}, duplicate={}, invalid={}, failed={}, aborted={}",
+                summary.getTotal(), summary.getCreated(), summary.getDuplicate(),
+                summary.getInvalid(), summary.getFailed(), summary.isAborted());
+        return summary;
+    }
+
+    private void processChunk(List<Row> chunk) {
+        // 1. 행 검증 + 배치 내 중복 제거 (배치 간 중복은 2단계 조회와 unique 제약으로 처리)
+        Set<String> seenEmails = new HashSet<>();
+        List<Row> candidates = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            Set<ConstraintViolation<BulkUserRequest>> violations = validator.validate(row.request);
+            if (!violations.isEmpty()) {
+                row.fail(BulkUserResult.Status.INVALID, violations.iterator().next().getMessage());
+                continue;
+            }
+            row.email = row.request.getEmail().trim().toLowerCase(Locale.ROOT);
+            if (!seenEmails.add(row.email)) {
+                row.fail(BulkUserResult.Status.DUPLICATE, "요청 내 중복된 이메일입니다.");
+                continue;
+            }
+            candidates.add(row);
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 2. 기존 가입 이메일 확인 (IN 쿼리 1회)
+        Set<String> existing;
+        try {
+            existing = new HashSet<>(
+                    userRepository.findExistingEmails(candidates.stream().map(row -> row.email).toList()));
+        } catch (DataAccessException e) {
+            log.error("대량 등록 기존 이메일 조회 실패: size={}", candidates.size(), e);
+            candidates.forEach(row -> row.fail(BulkUserResult.Status.FAILED, ErrorCode.SYSTEM_002.getMessage()));
+            return;
+        }
+        candidates.removeIf(row -> {
+            if (existing.contains(row.email)) {
+                row.fail(BulkUserResult.Status.DUPLICATE, "이미 등록된 이메일입니다.");
+                return true;
+            }
+            return false;
+        });
+
+        // 3. 비밀번호 병렬 해시
+        hashPasswords(candidates);
+        candidates.removeIf(row -> row.status != null);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 4. JDBC 배치 INSERT
+        insert(candidates);
+    }
+
+    private void hashPasswords(List<Row> rows) {
+        int window = Math.max(1, passwordHasher.getPoolSize());
+        for (int from = 0; from < rows.size(); from += window) {
+            List<Row> slice = rows.subList(from, Math.min(rows.size(), from + window));
+            try {
+                List<String> hashes = passwordHasher.encodeAll(
+                        slice.stream().map(row -> row.request.getPassword()).toList());
+                for (int i = 0; i < slice.size(); i++) {
+                    slice.get(i).hash = hashes.get(i);
+                }
+            } catch (AuthException e) {
+                slice.forEach(row -> row.fail(BulkUserResult.Status.FAILED, e.getMessage()));
+            }
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        LocalDateTime now = CachedClock.localDateTime(clock);
+        List<User> users = rows.stream().map(this::toUser).toList();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> userBatchRepository.insertAll(users, now));
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).created(ids.get(i));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 이후 다른 요청이 같은 이메일로 가입한 경우: 배치가 롤백되었으므로 행 단위로 재시도
+            log.info("대량 등록 배치 제약 위반, 행 단위로 재시도: size={}", rows.size());
+            insertIndividually(rows, users, now);
+        } catch (DataAccessException e) {
+            log.error("대량 등록 배치 저장 실패: size={}", rows.size(), e);
+            rows.forEach(row -> row.fail(BulkUserResult.Status.FAILED, ErrorCode.SYSTEM_002.getMessage()));
+        }
+    }
+
+    private void insertIndividually(List<Row> rows, List<User> users, LocalDateTime now) {
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            List<User> single = List.of(users.get(i));
+            try {
+                row.created(transactionTemplate.execute(status -> userBatchRepository.insertAll(single, now)).get(0));
+            } catch (DataIntegrityViolationException e) {
+                row.fail(BulkUserResult.Status.DUPLICATE, "이미 등록된 이메일입니다.");
+            } catch (DataAccessException e) {
+                log.error("대량 등록 행 저장 실패: row={}", row.number, e);
+                row.fail(BulkUserResult.Status.FAILED, ErrorCode.SYSTEM_002.getMessage());
+            }
+        }
+    }
+
+    private User toUser(Row row) {
+        String role = row.request.getRole();
+        return User.builder()
+                .email(row.email)
+                .password(row.hash)
+                .name(row.request.getName())
+                .role(role != null ? UserRole.valueOf(role) : UserRole.ADMIN)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private void emit(List<Row> chunk, Consumer<BulkUserResult> sink, long[] counts) {
+        for (Row row : chunk) {
+            if (row.status == BulkUserResult.Status.CREATED) {
+                registeredEmailFilter.add(row.email);
+            }
+            counts[row.status.ordinal()]++;
+            sink.accept(BulkUserResult.builder()
+                    .row(row.number)
+                    .email(row.email != null ? row.email : row.request.getEmail())
+                    .status(row.status)
+                    .userId(row.userId)
+                    .message(row.message)
+                    .build());
+        }
+    }
+
+    /**
+     * 배치 처리 중인 행의 작업 상태
+     */
+    private static final class Row {
+
+        private final long number;
+        private final BulkUserRequest request;
+        private String email;
+        private String hash;
+        private BulkUserResult.Status status;
+        private Long userId;
+        private String message;
+
+        private Row(long number, BulkUserRequest request) {
+            this.number = number;
+            this.request = request;
+        }
+
+        private void created(Long id) {
+            this.status = BulkUserResult.Status.CREATED;
+            this.userId = id;
+        }
+
+        private void fail(BulkUserResult.Status status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+    }
+}
@@ -4,13 +4,26 @@ import com.reacademix.reacademix_backend.domain.user.User;
 import com.reacademix.reacademix_backend.domain.user.UserRole;
 import com.reacademix.reacademix_backend.domain.user.UserStatus;
 import com.reacademix.reacademix_backend.dto.request.UserSignupRequest;
+import com.reacademix.reacademix_backend.dto.response.UserPageResponse;
 import com.reacademix.reacademix_backend.dto.response.UserResponse;
+import com.reacademix.reacademix_backend.exception.BusinessException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.repository.UserQueryRepository;
 import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import com.reacademix.reacademix_backend.security.PasswordHasher;
+import com.reacademix.reacademix_backend.security.RegisteredEmailFilter;
+import com.reacademix.reacademix_backend.security.UserIdentityChangedEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * User 관련 비즈니스 로직을 처리하는 Service
  */
@@ -20,19 +33,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserQueryRepository userQueryRepository;
+    private final PasswordHasher passwordHasher;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 회원가입 처리
      * @param request 회원가입 요청 DTO
      * @return UserResponse 회원가입 응답 DTO
-     * @throws RuntimeException 이메일 중복 시 예외 발생
+     * @throws BusinessException 이메일 중복 시 예외 발생 (RESOURCE_003)
      */
     @Transactional
     public UserResponse signup(UserSignupRequest request) {
-        // 이메일 중복 검사
-        checkEmailDuplicate(request.getEmail());
-
         // 비밀번호 암호화
         String encodedPassword = encodePassword(request.getPassword());
 
@@ -45,31 +59,115 @@ public class UserService {
                 .status(UserStatus.ACTIVE)  // MVP: 기본값 ACTIVE
                 .build();
 
-        // User 저장
-        User savedUser = userRepository.save(user);
+        // User 저장 (중복 검사 쿼리 없이 바로 INSERT, email unique 제약 위반 시 중복으로 판단)
+        User savedUser = insert(user);
+
+        // 로그인 시 DB 조회 생략 판단에 사용하는 가입 이메일 필터에 추가
+        registeredEmailFilter.add(savedUser.getEmail());
 
         // UserResponse로 변환하여 반환
         return buildUserResponse(savedUser);
     }
 
     /**
-     * 이메일 중복 검사
-     * @param email 사용자 이메일
-     * @throws RuntimeException 이메일이 이미 존재하는 경우
+     * 사용자 목록 조회 (keyset 페이지네이션)
+     * 요청 크기보다 한 건 더 조회해 다음 페이지 존재 여부를 판단한다.
+     * @param status 상태 필터 (null 이면 전체)
+     * @param role 역할 필터 (null 이면 전체)
+     * @param cursor 이전 응답의 nextCursor (null 이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return UserPageResponse 사용자 목록과 다음 커서
+     */
+    public UserPageResponse listUsers(UserStatus status, UserRole role, Long cursor, int size) {
+        List<UserProfile> users = userQueryRepository.findPage(status, role, cursor, size + 1);
+        boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+        return UserPageResponse.builder()
+                .users(users)
+                .nextCursor(hasNext ? users.get(size - 1).id() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 조건에 맞는 사용자 전체 내보내기
+     * 읽기 전용 트랜잭션 안에서 DB 커서를 유지한 채 행마다 sink 에 전달한다.
+     * @param status 상태 필터 (null 이면 전체)
+     * @param role 역할 필터 (null 이면 전체)
+     * @param sink 행마다 호출되는 소비자 (응답 스트림 기록)
+     */
+    public void exportUsers(UserStatus status, UserRole role, Consumer<UserProfile> sink) {
+        userQueryRepository.streamAll(status, role, sink);
+    }
+
+    /**
+     * 계정 상태 변경
+     * 커밋 후 UserIdentityCache 엔트리가 무효화되어 다음 요청부터 새 상태로 판정된다.
+     * ACTIVE 가 아닌 상태로 바꾸면 리프레시 토큰 세션도 모두 폐기된다.
+     * @param userId 사용자 ID
+     * @param status 새 계정 상태
+     * @throws BusinessException 사용자가 없는 경우 (RESOURCE_002)
+     */
+    @Transactional
+    public void changeStatus(Long userId, UserStatus status) {
+        findUser(userId).changeStatus(status);
+        if (status != UserStatus.ACTIVE) {
+            refreshTokenService.revokeAll(userId);
+        }
+        eventPublisher.publishEvent(new UserIdentityChangedEvent(userId));
+    }
+
+    /**
+     * 역할 변경
+     * 커밋 후 UserIdentityCache 엔트리가 무효화되어 다음 요청부터 새 역할로 판정된다.
+     * @param userId 사용자 ID
+     * @param role 새 역할
+     * @throws BusinessException 사용자가 없는 경우 (RESOURCE_002)
+     */
+    @Transactional
+    public void changeRole(Long userId, UserRole role) {
+        findUser(userId).changeRole(role);
+        eventPublisher.publishEvent(new UserIdentityChangedEvent(userId));
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_002));
+    }
+
+    /**
+     * User INSERT
+     * 사전 중복 조회 없이 저장하고 email unique 제약 위반을 중복 가입으로 변환한다.
+     * 동시 가입 요청도 DB 제약으로 한 건만 성공하므로 결과가 결정적이다.
+     * @param user 저장할 User 엔티티
+     * @return User 저장된 User 엔티티
+     * @throws BusinessException 이메일이 이미 존재하는 경우 (RESOURCE_003)
      */
-    private void checkEmailDuplicate(String email) {
-        if (userRepository.existsByEmail(email.toLowerCase())) {
-            throw new RuntimeException("이미 등록된 이메일입니다.");  // TODO: 커스텀 예외로 변경
+    private User insert(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new BusinessException(ErrorCode.RESOURCE_003, e);
+            }
+            throw e;
         }
     }
 
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
+
     /**
      * 비밀번호 암호화
      * @param rawPassword 평문 비밀번호
      * @return String 암호화된 비밀번호 (bcrypt 해시)
      */
     private String encodePassword(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return passwordHasher.encode(rawPassword);
     }
 
     /**
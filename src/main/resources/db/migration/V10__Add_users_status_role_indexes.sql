@@ -0,0 +1,14 @@
+-- =============================================
+-- V10: users 상태/역할 목록 조회 인덱스
+--
+-- 조회 패턴 (관리자 사용자 목록, keyset 페이지네이션)
+-- - 상태별: WHERE status = ? AND id > ? ORDER BY id LIMIT ?              -> idx_users_status_id
+-- - 역할별: WHERE role = ? AND id > ? ORDER BY id LIMIT ?                -> idx_users_role_id
+-- - 상태+역할: 상태 인덱스의 id 순서 범위 안에서 role 을 필터 (값 종류가 3개뿐이라 별도 인덱스 없음)
+-- - 전체: WHERE id > ? ORDER BY id LIMIT ?                              -> PK
+-- 단일 컬럼 인덱스는 선택도가 낮아 V1 에서 제외했지만, id 를 뒤에 붙이면 커서 위치로 바로 탐색하고
+-- 정렬 없이 LIMIT 만큼만 읽으므로 페이지 깊이와 무관하게 일정한 비용으로 조회된다.
+-- =============================================
+
+CREATE INDEX idx_users_status_id ON users (status, id);
+CREATE INDEX idx_users_role_id ON users (role, id);
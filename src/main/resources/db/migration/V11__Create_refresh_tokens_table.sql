@@ -0,0 +1,25 @@
+-- =============================================
+-- V11: refresh_tokens 테이블 생성
+-- 리프레시 토큰 세션 (원문은 저장하지 않고 SHA-256 해시 32바이트만 저장)
+--
+-- 조회 패턴 (RefreshTokenService)
+-- - 재발급:      WHERE token_hash = ?              -> uk_refresh_tokens_token_hash
+-- - 사용자 세션 폐기: DELETE ... WHERE user_id = ?      -> idx_refresh_tokens_user_id_expires_at
+-- - 만료 정리:   WHERE expires_at < ? ORDER BY expires_at LIMIT n -> idx_refresh_tokens_expires_at
+-- 행은 발급 후 변경되지 않으므로 updated_at 없음
+-- =============================================
+
+CREATE TABLE refresh_tokens (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    token_hash VARBINARY(32) NOT NULL COMMENT 'SHA-256(리프레시 토큰)',
+    user_id BIGINT NOT NULL,
+    expires_at DATETIME(6) NOT NULL COMMENT '리프레시 토큰 만료 시각',
+    created_at DATETIME(6) NOT NULL COMMENT '발급 시각',
+
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_refresh_tokens_user_id_expires_at ON refresh_tokens (user_id, expires_at);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,23 @@
+-- =============================================
+-- V1: users 테이블 생성
+-- 시스템 사용자 (관리자, 학사관리자, 운영관리자)
+--
+-- 조회 패턴: 로그인/중복 확인/대량 등록 중복 조회(IN)/이메일 전체 스트리밍 모두 email 기준
+-- - uk_users_email 하나로 처리 (별도 idx_users_email 은 같은 컬럼의 중복 인덱스이므로 만들지 않음)
+-- - InnoDB 보조 인덱스는 PK(id)를 포함하므로 email/id 만 읽는 쿼리는 테이블 접근 없이 인덱스만으로 처리
+-- - status/role 단일 컬럼 인덱스는 값 종류가 3개뿐이라 선택도가 낮아 만들지 않음
+-- =============================================
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL COMMENT 'bcrypt 해시',
+    name VARCHAR(100) NOT NULL,
+    role VARCHAR(20) NOT NULL DEFAULT 'ADMIN' COMMENT 'ADMIN, MANAGER, STAFF',
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE' COMMENT 'ACTIVE, INACTIVE, SUSPENDED',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
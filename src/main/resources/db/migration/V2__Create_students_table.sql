@@ -0,0 +1,30 @@
+-- =============================================
+-- V2: students 테이블 생성
+-- 학원 재원생 정보
+--
+-- 조회 패턴 (BE-STUDENT-001, BE-DATA-005)
+-- - 상태별 목록: WHERE status = ? ORDER BY name LIMIT ?        -> idx_students_status_name
+-- - 반별 목록/반 평균 대상: WHERE class_name = ? AND status = ? -> idx_students_class_name_status_name
+--   (PK 포함으로 반 소속 학생 id 조회는 인덱스만으로 처리, ORDER BY name 정렬 생략)
+-- - 이름/학생 코드 부분 검색(LIKE '%..%')은 B-tree 인덱스를 사용할 수 없으므로 위 인덱스로 status 범위만 좁힘
+-- =============================================
+
+CREATE TABLE students (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    student_code VARCHAR(50) NOT NULL COMMENT '학생 코드',
+    name VARCHAR(100) NOT NULL,
+    class_name VARCHAR(50) NULL COMMENT '반 이름',
+    phone VARCHAR(20) NULL COMMENT '학생 연락처',
+    parent_phone VARCHAR(20) NULL COMMENT '학부모 연락처',
+    parent_email VARCHAR(255) NULL COMMENT '학부모 이메일 (리포트 전송용)',
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE' COMMENT 'ACTIVE, INACTIVE, GRADUATED',
+    enrollment_date DATE NULL COMMENT '입학일',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+    CONSTRAINT uk_students_student_code UNIQUE (student_code)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_students_status_name ON students (status, name);
+CREATE INDEX idx_students_class_name_status_name ON students (class_name, status, name);
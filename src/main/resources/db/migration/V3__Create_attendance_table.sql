@@ -0,0 +1,28 @@
+-- =============================================
+-- V3: attendance 테이블 생성
+-- 학생 출결 기록
+--
+-- 조회 패턴 (BE-DATA-001, BE-DATA-005)
+-- - 학생별 기간 조회: WHERE student_id = ? AND attendance_date BETWEEN ? AND ?
+-- - 반 평균 출석률: 반 소속 학생들의 기간 내 status 집계
+-- -> idx_attendance_student_date_status: 기간 조회는 범위 스캔, 출석률 집계는 테이블 접근 없이 인덱스만으로 처리
+--    (student_id 가 선두 컬럼이므로 외래키용 인덱스를 겸함)
+-- =============================================
+
+CREATE TABLE attendance (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    student_id BIGINT NOT NULL,
+    attendance_date DATE NOT NULL COMMENT '출석 날짜',
+    status VARCHAR(20) NOT NULL DEFAULT 'PRESENT' COMMENT 'PRESENT, ABSENT, LATE, EARLY_LEAVE',
+    check_in_time TIME NULL COMMENT '등원 시간',
+    check_out_time TIME NULL COMMENT '하원 시간',
+    note VARCHAR(500) NULL COMMENT '비고',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+    CONSTRAINT fk_attendance_student FOREIGN KEY (student_id)
+        REFERENCES students (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_attendance_student_date_status ON attendance (student_id, attendance_date, status);
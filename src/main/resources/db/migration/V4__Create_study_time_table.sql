@@ -0,0 +1,28 @@
+-- =============================================
+-- V4: study_time 테이블 생성
+-- 과목별 학습 시간 기록
+--
+-- 조회 패턴 (BE-DATA-002, BE-DATA-005)
+-- - 학생별 기간 조회: WHERE student_id = ? AND study_date BETWEEN ? AND ?
+-- - 과목별/반 평균 학습 시간: 기간 내 subject 별 actual_minutes 합계
+-- -> idx_study_time_student_date_subject: 집계에 필요한 컬럼을 모두 포함 (인덱스만으로 처리)
+-- =============================================
+
+CREATE TABLE study_time (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    student_id BIGINT NOT NULL,
+    study_date DATE NOT NULL COMMENT '학습 날짜',
+    subject VARCHAR(50) NOT NULL COMMENT '과목',
+    planned_minutes INT NULL COMMENT '계획 시간(분)',
+    actual_minutes INT NULL COMMENT '실제 시간(분)',
+    note VARCHAR(500) NULL COMMENT '비고',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+    CONSTRAINT fk_study_time_student FOREIGN KEY (student_id)
+        REFERENCES students (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_study_time_student_date_subject
+    ON study_time (student_id, study_date, subject, planned_minutes, actual_minutes);
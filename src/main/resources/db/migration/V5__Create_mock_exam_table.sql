@@ -0,0 +1,31 @@
+-- =============================================
+-- V5: mock_exam 테이블 생성
+-- 모의고사 성적 기록
+--
+-- 조회 패턴 (BE-DATA-003, BE-DATA-005)
+-- - 학생별 기간 조회: WHERE student_id = ? AND exam_date BETWEEN ? AND ?
+-- - 과목별/반 평균 점수: 기간 내 score / max_score 집계
+-- -> idx_mock_exam_student_date_subject: 집계에 필요한 컬럼을 모두 포함 (인덱스만으로 처리)
+-- =============================================
+
+CREATE TABLE mock_exam (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    student_id BIGINT NOT NULL,
+    exam_date DATE NOT NULL COMMENT '시험 날짜',
+    exam_name VARCHAR(100) NOT NULL COMMENT '시험명',
+    subject VARCHAR(50) NOT NULL COMMENT '과목',
+    score INT NOT NULL COMMENT '득점',
+    max_score INT NOT NULL COMMENT '만점',
+    exam_rank INT NULL COMMENT '등급/석차',
+    percentile DECIMAL(5,2) NULL COMMENT '백분위',
+    note VARCHAR(500) NULL COMMENT '비고',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+    CONSTRAINT fk_mock_exam_student FOREIGN KEY (student_id)
+        REFERENCES students (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_mock_exam_student_date_subject
+    ON mock_exam (student_id, exam_date, subject, score, max_score);
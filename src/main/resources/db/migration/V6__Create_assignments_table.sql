@@ -0,0 +1,30 @@
+-- =============================================
+-- V6: assignments 테이블 생성
+-- 과제 현황 기록
+--
+-- 조회 패턴 (BE-DATA-004, BE-DATA-005)
+-- - 학생별 마감일 기준 기간 조회: WHERE student_id = ? AND due_date BETWEEN ? AND ?
+-- - 반 평균 완료율: 기간 내 status / completion_rate 집계
+-- -> idx_assignments_student_due_date: 집계에 필요한 컬럼을 모두 포함 (인덱스만으로 처리)
+-- =============================================
+
+CREATE TABLE assignments (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    student_id BIGINT NOT NULL,
+    assignment_date DATE NOT NULL COMMENT '과제 날짜',
+    subject VARCHAR(50) NOT NULL COMMENT '과목',
+    title VARCHAR(200) NOT NULL COMMENT '과제명',
+    status VARCHAR(20) NOT NULL DEFAULT 'NOT_STARTED' COMMENT 'NOT_STARTED, IN_PROGRESS, COMPLETED',
+    completion_rate INT NULL DEFAULT 0 COMMENT '완료율 0-100',
+    due_date DATE NULL COMMENT '마감일',
+    note VARCHAR(500) NULL COMMENT '비고',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+    CONSTRAINT fk_assignments_student FOREIGN KEY (student_id)
+        REFERENCES students (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_assignments_student_due_date
+    ON assignments (student_id, due_date, status, completion_rate);
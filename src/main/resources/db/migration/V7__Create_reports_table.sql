@@ -0,0 +1,38 @@
+-- =============================================
+-- V7: reports 테이블 생성
+-- 학생 성과 리포트
+--
+-- 조회 패턴 (BE-REPORT-007: 최신순 페이지 조회)
+-- - 학생별 (+상태 필터): WHERE student_id = ? [AND status = ?] ORDER BY created_at DESC -> idx_reports_student_created_at
+--   (학생당 리포트 수가 적으므로 상태 조건은 인덱스 범위 안에서 필터)
+-- - 상태별: WHERE status = ? ORDER BY created_at DESC -> idx_reports_status_created_at
+-- - 전체: ORDER BY created_at DESC -> idx_reports_created_at
+-- 세 경우 모두 정렬을 인덱스 순서로 처리하여 filesort 없이 LIMIT 만큼만 읽는다.
+-- =============================================
+
+CREATE TABLE reports (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    student_id BIGINT NOT NULL,
+    created_by BIGINT NOT NULL COMMENT '생성자 (users.id)',
+    report_start_date DATE NOT NULL COMMENT '리포트 시작일',
+    report_end_date DATE NOT NULL COMMENT '리포트 종료일',
+    status VARCHAR(20) NOT NULL DEFAULT 'GENERATING' COMMENT 'GENERATING, COMPLETED, FAILED',
+    file_path VARCHAR(500) NULL COMMENT 'PDF 파일 경로',
+    file_size BIGINT NULL COMMENT '파일 크기(bytes)',
+    insights TEXT NULL COMMENT '인사이트 JSON',
+    generated_at DATETIME(6) NULL COMMENT '생성 완료 시간',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reports_student FOREIGN KEY (student_id)
+        REFERENCES students (id) ON DELETE CASCADE,
+    CONSTRAINT fk_reports_user FOREIGN KEY (created_by)
+        REFERENCES users (id) ON DELETE RESTRICT
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_reports_student_created_at ON reports (student_id, created_at);
+CREATE INDEX idx_reports_status_created_at ON reports (status, created_at);
+CREATE INDEX idx_reports_created_at ON reports (created_at);
+-- 외래키 (사용자 삭제 시 RESTRICT 검사)
+CREATE INDEX idx_reports_created_by ON reports (created_by);
@@ -0,0 +1,28 @@
+-- =============================================
+-- V8: report_delivery 테이블 생성
+-- 리포트 전송 이력
+--
+-- 조회 패턴 (BE-DELIVERY-002)
+-- - 리포트별 이력: WHERE report_id = ? ORDER BY created_at DESC -> idx_report_delivery_report_created_at
+--   (학생별 이력은 reports.idx_reports_student_created_at 으로 리포트를 찾은 뒤 이 인덱스로 조인)
+-- - 전송 대기/실패 재처리: WHERE status = ? ORDER BY created_at -> idx_report_delivery_status_created_at
+-- =============================================
+
+CREATE TABLE report_delivery (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    report_id BIGINT NOT NULL,
+    delivery_type VARCHAR(20) NOT NULL COMMENT 'EMAIL, DOWNLOAD',
+    recipient_email VARCHAR(255) NULL COMMENT '수신자 이메일',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, SENT, FAILED',
+    sent_at DATETIME(6) NULL COMMENT '전송 시간',
+    failure_reason VARCHAR(500) NULL COMMENT '실패 사유',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+    CONSTRAINT fk_report_delivery_report FOREIGN KEY (report_id)
+        REFERENCES reports (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_report_delivery_report_created_at ON report_delivery (report_id, created_at);
+CREATE INDEX idx_report_delivery_status_created_at ON report_delivery (status, created_at);
@@ -0,0 +1,22 @@
+-- =============================================
+-- V9: revoked_tokens 테이블 생성
+-- 폐기(로그아웃)된 JWT 토큰 ID (노드 간 공유)
+--
+-- 조회 패턴 (DatabaseTokenRevocationStore)
+-- - 주기 동기화: WHERE created_at >= ? AND expires_at > ?  -> idx_revoked_tokens_created_at_expires_at
+-- - 기동 시 적재: WHERE expires_at > ?                      -> idx_revoked_tokens_expires_at
+-- - 만료 정리:   DELETE ... WHERE expires_at < ?            -> idx_revoked_tokens_expires_at
+-- 조회 컬럼은 token_id(PK), expires_at 뿐이므로 두 조회 모두 인덱스만으로 처리
+-- =============================================
+
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(36) NOT NULL COMMENT 'JWT jti 클레임',
+    expires_at DATETIME(6) NOT NULL COMMENT '토큰 만료 시각',
+    created_at DATETIME(6) NOT NULL COMMENT '폐기 시각',
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (token_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_revoked_tokens_created_at_expires_at ON revoked_tokens (created_at, expires_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
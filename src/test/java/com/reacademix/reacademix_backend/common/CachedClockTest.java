@@ -0,0 +1,64 @@
+package com.reacademix.reacademix_backend.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CachedClock 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class CachedClockTest {
+
+    @Test
+    @DisplayName("성공: 백그라운드 스레드가 1ms 주기로 시각 갱신")
+    void ticks() throws Exception {
+        // given
+        try (CachedClock clock = new CachedClock(Clock.systemUTC())) {
+            Instant first = clock.instant();
+
+            // when
+            Thread.sleep(20);
+
+            // then
+            assertThat(clock.instant()).isAfter(first);
+            assertThat(Duration.between(clock.instant(), Instant.now()).abs()).isLessThan(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    @DisplayName("성공: LocalDateTime 은 원본 Clock 의 타임존 기준으로 미리 변환")
+    void localDateTime() {
+        // given
+        Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+        Clock source = Clock.fixed(instant, ZoneId.of("Asia/Seoul"));
+
+        // when
+        try (CachedClock clock = new CachedClock(source)) {
+            // then
+            assertThat(clock.instant()).isEqualTo(instant);
+            assertThat(clock.getZone()).isEqualTo(ZoneId.of("Asia/Seoul"));
+            assertThat(CachedClock.localDateTime(clock)).isEqualTo(LocalDateTime.of(2025, 1, 1, 9, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 일반 Clock 은 LocalDateTime.now(clock) 과 동일")
+    void localDateTime_PlainClock() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+        // when & then
+        assertThat(CachedClock.localDateTime(clock)).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+}
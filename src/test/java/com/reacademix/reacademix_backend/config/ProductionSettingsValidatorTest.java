@@ -0,0 +1,96 @@
+package com.reacademix.reacademix_backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ProductionSettingsValidator 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class ProductionSettingsValidatorTest {
+
+    private final ProductionSettingsValidator validator = new ProductionSettingsValidator();
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", "jdbc:mysql://db:3306/reacademix")
+                .withProperty("spring.jpa.show-sql", "false")
+                .withProperty("spring.jpa.hibernate.ddl-auto", "validate")
+                .withProperty("logging.level.com.reacademix", "INFO");
+    }
+
+    @Nested
+    @DisplayName("운영 프로파일 설정 검사")
+    class ProductionProfileTest {
+
+        @BeforeEach
+        void setUp() {
+            environment.setActiveProfiles("prod");
+        }
+
+        @Test
+        @DisplayName("성공: 운영 설정만 있으면 통과")
+        void validate_Success() {
+            assertThatCode(() -> validator.postProcessEnvironment(environment, new SpringApplication()))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("실패: 개발 전용 설정을 모두 모아 기동 중단")
+        void validate_Fail_DevSettings() {
+            // given
+            environment.setProperty("spring.datasource.url", "jdbc:h2:mem:reacademix");
+            environment.setProperty("spring.h2.console.enabled", "true");
+            environment.setProperty("spring.jpa.show-sql", "true");
+            environment.setProperty("spring.jpa.properties.hibernate.format_sql", "true");
+            environment.setProperty("spring.jpa.hibernate.ddl-auto", "create-drop");
+            environment.setProperty("logging.level.org.springframework.security", "DEBUG");
+
+            // when & then
+            assertThat(ProductionSettingsValidator.validate(environment)).containsExactly(
+                    "spring.datasource.url=jdbc:h2:mem:reacademix",
+                    "spring.h2.console.enabled=true",
+                    "spring.jpa.show-sql=true",
+                    "spring.jpa.properties.hibernate.format_sql=true",
+                    "spring.jpa.hibernate.ddl-auto=create-drop",
+                    "logging.level.org.springframework.security=DEBUG");
+            assertThatThrownBy(() -> validator.postProcessEnvironment(environment, new SpringApplication()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("spring.jpa.show-sql=true");
+        }
+
+        @Test
+        @DisplayName("실패: 로그 레벨은 대소문자 구분 없이 검사")
+        void validate_Fail_TraceLogging() {
+            // given
+            environment.setProperty("logging.level.org.hibernate.orm.jdbc.bind", "trace");
+
+            // when & then
+            assertThat(ProductionSettingsValidator.validate(environment))
+                    .containsExactly("logging.level.org.hibernate.orm.jdbc.bind=trace");
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 운영 프로파일이 아니면 검사하지 않음")
+    void validate_SkippedOutsideProduction() {
+        // given
+        environment.setProperty("spring.jpa.show-sql", "true");
+
+        // when & then
+        assertThatCode(() -> validator.postProcessEnvironment(environment, new SpringApplication()))
+                .doesNotThrowAnyException();
+    }
+}
@@ -2,11 +2,17 @@ package com.reacademix.reacademix_backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reacademix.reacademix_backend.dto.request.LoginRequestDto;
+import com.reacademix.reacademix_backend.dto.request.RefreshTokenRequestDto;
 import com.reacademix.reacademix_backend.dto.response.LoginResponseDto;
 import com.reacademix.reacademix_backend.exception.AuthException;
 import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.exception.ErrorResponseWriter;
 import com.reacademix.reacademix_backend.exception.GlobalExceptionHandler;
+import com.reacademix.reacademix_backend.exception.RateLimitException;
+import com.reacademix.reacademix_backend.exception.SampledErrorLogger;
+import com.reacademix.reacademix_backend.security.LoginRateLimiter;
 import com.reacademix.reacademix_backend.service.AuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,13 +25,21 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Clock;
+
 /**
  * AuthController 통합 테스트
  * 
@@ -38,18 +52,26 @@ class AuthControllerTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
     @InjectMocks
     private AuthController authController;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
+        objectMapper = new ObjectMapper();
+        Clock clock = Clock.systemDefaultZone();
+        GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(
+                new ErrorResponseWriter(objectMapper, clock, meterRegistry), new SampledErrorLogger(), clock);
         mockMvc = MockMvcBuilders.standaloneSetup(authController)
-                .setControllerAdvice(new GlobalExceptionHandler())
+                .setControllerAdvice(exceptionHandler)
                 .build();
-        objectMapper = new ObjectMapper();
     }
 
     @Nested
@@ -169,6 +191,8 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.success").value(false))
                     .andExpect(jsonPath("$.error.code").value("AUTH_002"))
                     .andExpect(jsonPath("$.error.message").value("이메일 또는 비밀번호가 올바르지 않습니다."));
+
+            assertThat(meterRegistry.get("api.errors").tag("code", "AUTH_002").counter().count()).isEqualTo(1);
         }
 
         @Test
@@ -216,6 +240,114 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.error.code").value("AUTH_004"))
                     .andExpect(jsonPath("$.error.message").value("계정이 비활성화되었습니다."));
         }
+
+        @Test
+        @DisplayName("실패: 로그인 시도 한도 초과 시 인증 처리 없이 429 + Retry-After")
+        void login_Fail_RateLimited() throws Exception {
+            // given
+            LoginRequestDto request = LoginRequestDto.builder()
+                    .email("test@academy.com")
+                    .password("SecurePass123!")
+                    .build();
+
+            willThrow(new RateLimitException(42)).given(loginRateLimiter).check(anyString(), anyString());
+
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "42"))
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.error.code").value("AUTH_007"));
+
+            verifyNoInteractions(authService);
+        }
     }
-}
 
+    @Nested
+    @DisplayName("POST /api/v1/auth/refresh")
+    class RefreshApiTest {
+
+        @Test
+        @DisplayName("성공: 리프레시 토큰으로 재발급 (200 OK, 새 리프레시 토큰 포함)")
+        void refresh_Success_Returns200() throws Exception {
+            // given
+            LoginResponseDto response = LoginResponseDto.builder()
+                    .token("new-jwt-token")
+                    .tokenType("Bearer")
+                    .expiresIn(900L)
+                    .refreshToken("new-refresh-token")
+                    .refreshExpiresIn(1_209_600L)
+                    .user(LoginResponseDto.UserInfo.builder()
+                            .userId(1L)
+                            .email("test@academy.com")
+                            .name("테스트 사용자")
+                            .build())
+                    .build();
+            given(authService.refresh("refresh-token-string")).willReturn(response);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto("refresh-token-string"))))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("토큰이 재발급되었습니다."))
+                    .andExpect(jsonPath("$.data.token").value("new-jwt-token"))
+                    .andExpect(jsonPath("$.data.refreshToken").value("new-refresh-token"))
+                    .andExpect(jsonPath("$.data.refreshExpiresIn").value(1209600));
+        }
+
+        @Test
+        @DisplayName("실패: 유효하지 않은 리프레시 토큰 (401 Unauthorized)")
+        void refresh_Fail_InvalidToken() throws Exception {
+            // given
+            given(authService.refresh("used-token")).willThrow(new AuthException(ErrorCode.AUTH_008));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto("used-token"))))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.error.code").value("AUTH_008"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/auth/logout")
+    class LogoutApiTest {
+
+        @Test
+        @DisplayName("성공: Bearer 토큰과 리프레시 토큰 전달 (200 OK)")
+        void logout_Success() throws Exception {
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/logout")
+                            .header("Authorization", "Bearer jwt-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto("refresh-token-string"))))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.message").value("로그아웃되었습니다."));
+
+            verify(authService).logout("jwt-token", "refresh-token-string");
+        }
+
+        @Test
+        @DisplayName("실패: Authorization 헤더 없음 (401 Unauthorized)")
+        void logout_Fail_NoToken() throws Exception {
+            // given
+            willThrow(new AuthException(ErrorCode.AUTH_001)).given(authService).logout(null, null);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/logout"))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.error.code").value("AUTH_001"));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.reacademix.reacademix_backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reacademix.reacademix_backend.exception.ErrorResponseWriter;
+import com.reacademix.reacademix_backend.exception.GlobalExceptionHandler;
+import com.reacademix.reacademix_backend.exception.SampledErrorLogger;
+import com.reacademix.reacademix_backend.service.UserProvisioningService;
+import com.reacademix.reacademix_backend.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * UserController 요청 파라미터 검증 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserProvisioningService userProvisioningService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Clock clock = Clock.systemDefaultZone();
+        GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(
+                new ErrorResponseWriter(objectMapper, clock, meterRegistry), new SampledErrorLogger(), clock);
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService, userProvisioningService, objectMapper))
+                .setControllerAdvice(exceptionHandler)
+                .build();
+    }
+
+    @Test
+    @DisplayName("실패: 목록 조회 시 정의되지 않은 status 값 (400 Bad Request)")
+    void listUsers_Fail_UnknownStatus() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/users").param("status", "UNKNOWN"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.code").value("VALIDATION_001"))
+                .andExpect(jsonPath("$.error.details.field").value("status"))
+                .andExpect(jsonPath("$.error.details.rejectedValue").value("UNKNOWN"));
+
+        verifyNoInteractions(userService);
+        assertThat(meterRegistry.get("api.errors").tag("code", "VALIDATION_001").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 내보내기 시 정의되지 않은 role 값 (400 Bad Request)")
+    void exportUsers_Fail_UnknownRole() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/users/export").param("role", "SUPERUSER"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("VALIDATION_001"))
+                .andExpect(jsonPath("$.error.details.field").value("role"));
+
+        verifyNoInteractions(userService);
+    }
+}
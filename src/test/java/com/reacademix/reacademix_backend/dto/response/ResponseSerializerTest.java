@@ -0,0 +1,101 @@
+package com.reacademix.reacademix_backend.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiResponseSerializer, LoginResponseSerializer 단위 테스트
+ * 전용 Serializer 결과가 기존 리플렉션 기반 직렬화 결과와 byte 단위로 같은지 확인
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class ResponseSerializerTest {
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper reflectiveObjectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+        // @JsonSerialize 를 무시하는 ObjectMapper (기존 BeanSerializer 경로)
+        reflectiveObjectMapper = new ObjectMapper().setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            public Object findSerializer(Annotated a) {
+                return null;
+            }
+        });
+    }
+
+    private static LoginResponseDto loginResponse() {
+        return LoginResponseDto.builder()
+                .token("jwt-token-string")
+                .tokenType("Bearer")
+                .expiresIn(900L)
+                .refreshToken("refresh-token-string")
+                .refreshExpiresIn(1209600L)
+                .user(LoginResponseDto.UserInfo.builder()
+                        .userId(1L)
+                        .email("test@academy.com")
+                        .name("테스트 \"사용자\"")
+                        .build())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("직렬화 결과 호환성 테스트")
+    class CompatibilityTest {
+
+        @Test
+        @DisplayName("성공: 로그인 응답 (데이터 + 메시지)")
+        void loginResponse_SameAsReflective() throws Exception {
+            // given
+            ApiResponse<LoginResponseDto> response = ApiResponse.success(loginResponse(), "로그인에 성공했습니다.");
+
+            // when
+            String json = objectMapper.writeValueAsString(response);
+
+            // then
+            assertThat(json).isEqualTo(reflectiveObjectMapper.writeValueAsString(response));
+            assertThat(objectMapper.writeValueAsString(response)).isEqualTo(json);
+        }
+
+        @Test
+        @DisplayName("성공: null 필드 처리 (ApiResponse 는 제외, LoginResponseDto 는 null 기록)")
+        void nullFields_SameAsReflective() throws Exception {
+            // given
+            ApiResponse<LoginResponseDto> response = ApiResponse.success(LoginResponseDto.builder().build());
+            ApiResponse<Object> messageOnly = ApiResponse.success("처리되었습니다.");
+
+            // when & then
+            assertThat(objectMapper.writeValueAsString(response))
+                    .isEqualTo(reflectiveObjectMapper.writeValueAsString(response));
+            assertThat(objectMapper.writeValueAsString(messageOnly))
+                    .isEqualTo(reflectiveObjectMapper.writeValueAsString(messageOnly))
+                    .isEqualTo("{\"success\":true,\"message\":\"처리되었습니다.\"}");
+        }
+
+        @Test
+        @DisplayName("성공: 다른 타입의 data 는 기본 Serializer 로 위임")
+        void otherData_DelegatesToDefaultSerializer() throws Exception {
+            // given
+            ApiResponse<UserResponse> response = ApiResponse.success(UserResponse.builder()
+                    .userId(1L)
+                    .email("test@academy.com")
+                    .name("테스트 사용자")
+                    .build());
+
+            // when & then
+            assertThat(objectMapper.writeValueAsString(response))
+                    .isEqualTo(reflectiveObjectMapper.writeValueAsString(response));
+        }
+    }
+}
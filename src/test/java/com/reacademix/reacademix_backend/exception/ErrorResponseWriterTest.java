@@ -0,0 +1,108 @@
+package com.reacademix.reacademix_backend.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ErrorResponseWriter 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class ErrorResponseWriterTest {
+
+    /** 마이크로초 이하 자릿수가 있는 시각 (Jackson 경로와 형식이 같은지 확인) */
+    private final Clock clock = Clock.fixed(Instant.parse("2025-03-01T09:30:15.123456789Z"), ZoneOffset.UTC);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseWriter errorResponseWriter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        errorResponseWriter = new ErrorResponseWriter(objectMapper, clock, meterRegistry);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ErrorCode.class)
+    @DisplayName("성공: 미리 직렬화한 응답은 ErrorResponse.of 직렬화 결과와 timestamp 외에 동일")
+    void write_MatchesErrorResponse(ErrorCode errorCode) throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        errorResponseWriter.write(response, errorCode);
+
+        // then
+        JsonNode written = objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+        JsonNode expected = objectMapper.valueToTree(ErrorResponse.of(errorCode, clock));
+        assertThat(LocalDateTime.parse(written.get("timestamp").asText())).isNotNull();
+        ((ObjectNode) written).remove("timestamp");
+        ((ObjectNode) expected).remove("timestamp");
+        assertThat(written).isEqualTo(expected);
+        assertThat(response.getStatus()).isEqualTo(errorCode.getHttpStatus().value());
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("성공: timestamp 는 ErrorResponse Jackson 직렬화와 같은 밀리초 형식")
+    void write_TimestampMatchesJackson() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        errorResponseWriter.write(response, ErrorCode.AUTH_002);
+
+        // then
+        JsonNode written = objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+        JsonNode expected = objectMapper.valueToTree(ErrorResponse.of(ErrorCode.AUTH_002, clock));
+        assertThat(written.get("timestamp").asText())
+                .isEqualTo(expected.get("timestamp").asText())
+                .isEqualTo("2025-03-01T09:30:15.123");
+    }
+
+    @Test
+    @DisplayName("성공: 작성한 응답은 api.errors 카운터에 집계")
+    void write_CountsError() throws Exception {
+        // when
+        errorResponseWriter.write(new MockHttpServletResponse(), ErrorCode.AUTH_001);
+        errorResponseWriter.write(new MockHttpServletResponse(), ErrorCode.AUTH_001);
+
+        // then
+        assertThat(meterRegistry.get("api.errors").tag("code", "AUTH_001").tag("status", "401").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 응답 헤더는 UTF-8 JSON")
+    void write_ContentType() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        errorResponseWriter.write(response, ErrorCode.AUTH_002);
+
+        // then
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getCharacterEncoding()).isEqualTo("UTF-8");
+    }
+}
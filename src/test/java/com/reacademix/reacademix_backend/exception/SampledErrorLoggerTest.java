@@ -0,0 +1,35 @@
+package com.reacademix.reacademix_backend.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SampledErrorLogger 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class SampledErrorLoggerTest {
+
+    @Test
+    @DisplayName("성공: ErrorCode별로 집계하고 flush 시 초기화")
+    void recordAndFlush() {
+        // given
+        SampledErrorLogger logger = new SampledErrorLogger();
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            logger.record(ErrorCode.AUTH_002, "로그인 실패");
+        }
+        logger.record(ErrorCode.AUTH_006, "유효하지 않은 토큰");
+
+        // then
+        assertThat(logger.getCount(ErrorCode.AUTH_002)).isEqualTo(1_000);
+        assertThat(logger.getCount(ErrorCode.AUTH_006)).isEqualTo(1);
+
+        logger.flush();
+        assertThat(logger.getCount(ErrorCode.AUTH_002)).isZero();
+    }
+}
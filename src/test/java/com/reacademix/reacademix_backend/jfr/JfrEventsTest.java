@@ -0,0 +1,117 @@
+package com.reacademix.reacademix_backend.jfr;
+
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JFR 도메인 이벤트 단위 테스트 (기록 → 덤프 → 파일에서 이벤트 확인)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("성공: 임계값 이상 걸린 Repository 호출만 기록")
+    void slowRepositoryCall() throws Exception {
+        // given
+        SlowRepositoryCallListener listener = new SlowRepositoryCallListener(Duration.ofMillis(50));
+
+        // when
+        List<RecordedEvent> events = record(SlowRepositoryCallEvent.NAME, () -> {
+            listener.afterInvocation(invocation("findById", TimeUnit.MILLISECONDS.toNanos(5)));
+            listener.afterInvocation(invocation("findLoginCredentialByEmail", TimeUnit.MILLISECONDS.toNanos(120)));
+        });
+
+        // then
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("repository")).isEqualTo("UserRepository");
+        assertThat(event.getString("method")).isEqualTo("findLoginCredentialByEmail");
+        assertThat(event.getString("state")).isEqualTo("SUCCESS");
+        assertThat(event.getDuration("callDuration")).isEqualTo(Duration.ofMillis(120));
+    }
+
+    @Test
+    @DisplayName("성공: 로그인 단계는 succeeded 호출 여부로 실패 표시")
+    void loginStage() throws Exception {
+        // when
+        List<RecordedEvent> events = record(LoginStageEvent.NAME, () -> {
+            LoginStageEvent lookup = LoginStageEvent.start(LoginStageEvent.LOOKUP);
+            lookup.succeeded();
+            lookup.finish();
+            LoginStageEvent verify = LoginStageEvent.start(LoginStageEvent.PASSWORD_VERIFY);
+            verify.finish();
+        });
+
+        // then
+        assertThat(events).extracting(e -> e.getString("stage"))
+                .containsExactly(LoginStageEvent.LOOKUP, LoginStageEvent.PASSWORD_VERIFY);
+        assertThat(events).extracting(e -> e.getBoolean("failed")).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("성공: JWT 검증 실패 원인과 에러 코드 기록")
+    void jwtParseFailure() throws Exception {
+        // when
+        List<RecordedEvent> events = record(JwtParseFailureEvent.NAME,
+                () -> JwtParseFailureEvent.start().fail(JwtParseFailureEvent.EXPIRED, "AUTH_005"));
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("cause")).isEqualTo(JwtParseFailureEvent.EXPIRED);
+        assertThat(events.get(0).getString("errorCode")).isEqualTo("AUTH_005");
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve(eventName + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .toList();
+    }
+
+    private static RepositoryMethodInvocation invocation(String method, long durationNanos) {
+        RepositoryMethodInvocationResult result = new RepositoryMethodInvocationResult() {
+            @Override
+            public State getState() {
+                return State.SUCCESS;
+            }
+
+            @Override
+            public Throwable getError() {
+                return null;
+            }
+        };
+        try {
+            return new RepositoryMethodInvocation(UserRepository.class,
+                    UserRepository.class.getMethod(method, method.equals("findById") ? Object.class : String.class),
+                    result, durationNanos);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.reacademix.reacademix_backend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션 테스트 (H2 MySQL 호환 모드)
+ * application.properties 의 데이터소스로 마이그레이션을 실행하고 Hibernate validate 로 엔티티 매핑을 검증한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("성공: 모든 버전 마이그레이션 적용 (엔티티 매핑 검증 통과)")
+    void migrate_AllApplied() {
+        // when
+        MigrationInfo[] applied = flyway.info().applied();
+
+        // then
+        assertThat(Arrays.stream(applied).map(info -> info.getVersion().getVersion()))
+                .containsExactly("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11");
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(tables()).contains("users", "students", "attendance", "study_time", "mock_exam",
+                "assignments", "reports", "report_delivery", "revoked_tokens", "refresh_tokens");
+    }
+
+    @Nested
+    @DisplayName("인덱스 테스트")
+    class IndexTest {
+
+        @Test
+        @DisplayName("성공: users 는 PK, 이메일 유니크, 목록 조회용 (status|role, id) 인덱스만 보유")
+        void users_NoRedundantIndexes() {
+            // H2 는 제약 조건용 인덱스 이름에 접미사를 붙이므로 컬럼 구성으로 비교
+            assertThat(indexColumns("users"))
+                    .map(index -> index.substring(index.indexOf(':') + 1))
+                    .containsExactlyInAnyOrder("id", "email", "status,id", "role,id");
+        }
+
+        @Test
+        @DisplayName("성공: 상태별 사용자 목록 keyset 조회는 (status, id) 인덱스 사용")
+        void usersByStatus_UsesCompositeIndex() {
+            assertThat(explain("SELECT id, email, name, role, status FROM users "
+                    + "WHERE status = 'ACTIVE' AND id > 100 ORDER BY id LIMIT 50"))
+                    .contains("idx_users_status_id");
+        }
+
+        @Test
+        @DisplayName("성공: 학생별 기간 조회 테이블은 student_id 선두 복합 인덱스 보유")
+        void studentTables_CompositeIndexes() {
+            assertThat(indexColumns("attendance"))
+                    .contains("idx_attendance_student_date_status:student_id,attendance_date,status");
+            assertThat(indexColumns("study_time"))
+                    .contains("idx_study_time_student_date_subject:student_id,study_date,subject,planned_minutes,actual_minutes");
+            assertThat(indexColumns("mock_exam"))
+                    .contains("idx_mock_exam_student_date_subject:student_id,exam_date,subject,score,max_score");
+            assertThat(indexColumns("assignments"))
+                    .contains("idx_assignments_student_due_date:student_id,due_date,status,completion_rate");
+        }
+
+        @Test
+        @DisplayName("성공: 대량 등록 중복 이메일 조회는 유니크 인덱스 사용")
+        void findExistingEmails_UsesUniqueIndex() {
+            assertThat(explain("SELECT email FROM users WHERE email IN ('a@academy.com', 'b@academy.com')"))
+                    .contains("uk_users_email");
+        }
+
+        @Test
+        @DisplayName("성공: 학생별 출석 기간 조회는 복합 인덱스 범위 스캔")
+        void attendanceRange_UsesCompositeIndex() {
+            assertThat(explain("SELECT status FROM attendance "
+                    + "WHERE student_id = 1 AND attendance_date BETWEEN DATE '2025-03-01' AND DATE '2025-03-31'"))
+                    .contains("idx_attendance_student_date_status");
+        }
+
+        @Test
+        @DisplayName("성공: 폐기 토큰 동기화 조회는 created_at 복합 인덱스 사용")
+        void revokedTokenSync_UsesCompositeIndex() {
+            assertThat(explain("SELECT token_id, expires_at FROM revoked_tokens "
+                    + "WHERE created_at >= TIMESTAMP '2025-01-01 00:00:00' AND expires_at > TIMESTAMP '2025-01-01 00:00:00'"))
+                    .contains("idx_revoked_tokens_created_at_expires_at");
+        }
+
+        @Test
+        @DisplayName("성공: refresh_tokens 는 해시 유니크, (user_id, expires_at), expires_at 인덱스 보유")
+        void refreshTokens_Indexes() {
+            assertThat(indexColumns("refresh_tokens"))
+                    .map(index -> index.substring(index.indexOf(':') + 1))
+                    .contains("token_hash", "user_id,expires_at", "expires_at");
+        }
+
+        @Test
+        @DisplayName("성공: 만료 리프레시 토큰 정리 조회는 expires_at 인덱스 사용")
+        void refreshTokenPurge_UsesExpiresAtIndex() {
+            assertThat(explain("SELECT id FROM refresh_tokens "
+                    + "WHERE expires_at < TIMESTAMP '2025-01-01 00:00:00' ORDER BY expires_at LIMIT 1000"))
+                    .contains("idx_refresh_tokens_expires_at");
+        }
+    }
+
+    private List<String> tables() {
+        return jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_schema = 'public'", String.class);
+    }
+
+    /** 인덱스별 "인덱스명:컬럼1,컬럼2" 목록 (외래키 제약용 자동 생성 인덱스 제외) */
+    private List<String> indexColumns(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT LOWER(i.index_name) || ':' || LISTAGG(LOWER(c.column_name), ',') WITHIN GROUP (ORDER BY c.ordinal_position) "
+                        + "FROM information_schema.indexes i "
+                        + "JOIN information_schema.index_columns c "
+                        + "  ON c.index_schema = i.index_schema AND c.index_name = i.index_name "
+                        + "WHERE i.table_schema = 'public' AND i.table_name = ? "
+                        + "  AND LOWER(i.index_name) NOT LIKE 'fk_%' "
+                        + "GROUP BY i.index_name",
+                String.class, table);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+    }
+}
@@ -0,0 +1,91 @@
+package com.reacademix.reacademix_backend.repository;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserQueryRepository 목록 조회 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserQueryRepository.class)
+class UserQueryRepositoryTest {
+
+    @Autowired
+    private UserQueryRepository userQueryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 상태: 짝수 ACTIVE / 홀수 INACTIVE, 역할: 3의 배수 MANAGER / 나머지 ADMIN
+        for (int i = 1; i <= 10; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO users (email, password, name, role, status, created_at, updated_at) "
+                            + "VALUES (?, 'hash', ?, ?, ?, NOW(), NOW())",
+                    "user" + i + "@academy.com", "사용자" + i,
+                    i % 3 == 0 ? "MANAGER" : "ADMIN",
+                    i % 2 == 0 ? "ACTIVE" : "INACTIVE");
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 커서 이후 id 오름차순으로 limit 만큼 조회하여 전체를 중복/누락 없이 순회")
+    void findPage_KeysetTraversal() {
+        // when
+        List<String> emails = new ArrayList<>();
+        Long cursor = null;
+        List<UserProfile> page;
+        do {
+            page = userQueryRepository.findPage(null, null, cursor, 3);
+            page.forEach(user -> emails.add(user.email()));
+            cursor = page.isEmpty() ? cursor : page.get(page.size() - 1).id();
+        } while (page.size() == 3);
+
+        // then
+        assertThat(emails).hasSize(10).doesNotHaveDuplicates();
+        assertThat(emails.get(0)).isEqualTo("user1@academy.com");
+        assertThat(emails.get(9)).isEqualTo("user10@academy.com");
+    }
+
+    @Test
+    @DisplayName("성공: 상태와 역할 필터를 함께 적용")
+    void findPage_StatusAndRoleFilter() {
+        // when
+        List<UserProfile> users = userQueryRepository.findPage(UserStatus.ACTIVE, UserRole.MANAGER, null, 10);
+
+        // then
+        assertThat(users).extracting(UserProfile::email)
+                .containsExactly("user6@academy.com");
+    }
+
+    @Test
+    @DisplayName("성공: 내보내기는 필터에 맞는 전체 사용자를 id 순서로 전달")
+    void streamAll_FilteredInIdOrder() {
+        // when
+        List<String> emails = new ArrayList<>();
+        userQueryRepository.streamAll(UserStatus.ACTIVE, null, user -> emails.add(user.email()));
+
+        // then
+        assertThat(emails).containsExactly("user2@academy.com", "user4@academy.com", "user6@academy.com",
+                "user8@academy.com", "user10@academy.com");
+    }
+}
@@ -0,0 +1,102 @@
+package com.reacademix.reacademix_backend.repository;
+
+import com.reacademix.reacademix_backend.config.ClockConfig;
+import com.reacademix.reacademix_backend.config.JpaAuditingConfig;
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.repository.projection.LoginCredential;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserRepository Projection 조회 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ClockConfig.class, JpaAuditingConfig.class})
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.saveAndFlush(User.builder()
+                .email("test@academy.com")
+                .password("$2a$10$encodedPassword")
+                .name("테스트 사용자")
+                .role(UserRole.MANAGER)
+                .status(UserStatus.ACTIVE)
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("성공: 로그인에 필요한 컬럼만 조회하고 영속성 컨텍스트에 엔티티를 올리지 않음")
+    void findLoginCredential_NotManaged() {
+        // when
+        LoginCredential credential = userRepository.findLoginCredentialByEmail("test@academy.com").orElseThrow();
+
+        // then
+        assertThat(credential).isEqualTo(new LoginCredential(user.getId(), "test@academy.com", "테스트 사용자",
+                UserRole.MANAGER, UserStatus.ACTIVE, "$2a$10$encodedPassword"));
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 없는 이메일은 empty")
+    void findLoginCredential_NotFound() {
+        assertThat(userRepository.findLoginCredentialByEmail("none@academy.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 공개 프로필은 비밀번호 해시 없이 조회")
+    void findProfileById() {
+        // when
+        UserProfile profile = userRepository.findProfileById(user.getId()).orElseThrow();
+
+        // then
+        assertThat(profile).isEqualTo(new UserProfile(user.getId(), "test@academy.com", "테스트 사용자",
+                UserRole.MANAGER, UserStatus.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("성공: BCrypt 접두사를 사용자 수가 많은 순으로 조회")
+    void findPasswordHashPrefixesByFrequency() {
+        // given: cost 10 사용자 1명(setUp) + cost 12 사용자 2명
+        for (int i = 0; i < 2; i++) {
+            userRepository.save(User.builder()
+                    .email("cost12-" + i + "@academy.com")
+                    .password("$2a$12$encodedPassword" + i)
+                    .name("사용자 " + i)
+                    .role(UserRole.MANAGER)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+        userRepository.flush();
+
+        // when & then
+        assertThat(userRepository.findPasswordHashPrefixesByFrequency(PageRequest.of(0, 2)))
+                .containsExactly("$2a$12$", "$2a$10$");
+    }
+}
@@ -0,0 +1,77 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.domain.token.RevokedToken;
+import com.reacademix.reacademix_backend.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * DatabaseTokenRevocationStore 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class DatabaseTokenRevocationStoreTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneOffset.UTC);
+    private DatabaseTokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DatabaseTokenRevocationStore(revokedTokenRepository, clock, 3_600_000L, 1_000, 5_000L);
+    }
+
+    @Test
+    @DisplayName("성공: 존재 확인 없이 새 엔티티로 INSERT, 만료 시각은 공용 Clock 시간대로 저장")
+    void revoke_UsesClockZone() {
+        // given
+        Instant expiresAt = clock.instant().plusSeconds(60);
+
+        // when
+        store.revoke("token-id", expiresAt);
+
+        // then
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getExpiresAt()).isEqualTo(LocalDateTime.ofInstant(expiresAt, ZoneId.of("UTC")));
+        assertThat(captor.getValue().isNew()).isTrue();
+        verifyNoMoreInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드가 먼저 등록해 PK 중복이 나도 폐기로 처리")
+    void revoke_ConcurrentInsert() {
+        // given
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        given(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // when
+        store.revoke("token-id", expiresAt);
+
+        // then
+        assertThat(store.isRevoked("token-id", expiresAt)).isTrue();
+    }
+}
@@ -0,0 +1,92 @@
+package com.reacademix.reacademix_backend.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InMemoryTokenRevocationStore 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class InMemoryTokenRevocationStoreTest {
+
+    private InMemoryTokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryTokenRevocationStore(Clock.systemDefaultZone(), 1_000L, 1_000);
+    }
+
+    @Test
+    @DisplayName("성공: 폐기한 토큰만 폐기로 판정")
+    void isRevoked_OnlyRevokedTokens() {
+        // given
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        String revoked = UUID.randomUUID().toString();
+        store.revoke(revoked, expiresAt);
+
+        // when & then
+        assertThat(store.isRevoked(revoked, expiresAt)).isTrue();
+        assertThat(IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .anyMatch(tokenId -> store.isRevoked(tokenId, expiresAt)))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 이미 만료된 토큰은 저장하지 않음")
+    void revoke_IgnoresExpiredToken() {
+        // given
+        Instant expiredAt = Instant.now().minusSeconds(1);
+
+        // when
+        store.revoke("expired-token-id", expiredAt);
+
+        // then
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 만료 시각이 지난 버킷은 정리됨")
+    void purgeExpired_RemovesExpiredBuckets() throws InterruptedException {
+        // given
+        Instant shortLived = Instant.now().plusMillis(50);
+        Instant longLived = Instant.now().plusSeconds(60);
+        store.revoke("short-lived", shortLived);
+        store.revoke("long-lived", longLived);
+
+        // when
+        Thread.sleep(2_100);
+        store.purgeExpired();
+
+        // then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.isRevoked("short-lived", shortLived)).isFalse();
+        assertThat(store.isRevoked("long-lived", longLived)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: hashCode 가 같은 문자열도 Bloom filter 인덱스가 서로 다름")
+    void bloomFilter_HashCodeCollision() {
+        // given
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(1_000, 0.001);
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        // when
+        filter.put("Aa");
+
+        // then
+        assertThat(ConcurrentBloomFilter.hash64("Aa")).isNotEqualTo(ConcurrentBloomFilter.hash64("BB"));
+        assertThat(filter.mightContain("Aa")).isTrue();
+        assertThat(filter.mightContain("BB")).isFalse();
+    }
+}
@@ -0,0 +1,262 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.exception.ErrorResponseWriter;
+import com.reacademix.reacademix_backend.exception.SampledErrorLogger;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * JwtAuthenticationFilter 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JwtAuthenticationEntryPoint entryPoint;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        entryPoint = new JwtAuthenticationEntryPoint(
+                new ErrorResponseWriter(new ObjectMapper(), Clock.systemDefaultZone(), meterRegistry),
+                new SampledErrorLogger());
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, entryPoint);
+        request = new MockHttpServletRequest("GET", "/api/v1/students");
+        response = new MockHttpServletResponse();
+        filterChain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("JWT 인증 필터 테스트")
+    class DoFilterTest {
+
+        @Test
+        @DisplayName("성공: 유효한 토큰의 클레임만으로 Authentication 설정")
+        void doFilter_ValidToken_SetsAuthentication() throws Exception {
+            // given
+            AuthenticatedPrincipal principal = AuthenticatedPrincipal.builder()
+                    .userId(1L)
+                    .email("test@academy.com")
+                    .role(UserRole.ADMIN)
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build();
+            given(jwtTokenProvider.authenticate("valid-token")).willReturn(principal);
+            request.addHeader("Authorization", "Bearer valid-token");
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            assertThat(authentication).isNotNull();
+            assertThat(authentication.isAuthenticated()).isTrue();
+            assertThat(authentication.getPrincipal()).isSameAs(principal);
+            assertThat(authentication.getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_ADMIN");
+            assertThat(filterChain.getRequest()).isNotNull();
+            verifyNoInteractions(userIdentityCache);
+        }
+
+        @Test
+        @DisplayName("성공: 토큰이 없으면 인증 없이 다음 필터로 진행")
+        void doFilter_NoToken_ContinuesChain() throws Exception {
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            assertThat(filterChain.getRequest()).isNotNull();
+            verifyNoInteractions(jwtTokenProvider);
+        }
+
+        @Test
+        @DisplayName("실패: 만료된 토큰은 401 AUTH_005 응답")
+        void doFilter_ExpiredToken_Returns401() throws Exception {
+            // given
+            given(jwtTokenProvider.authenticate("expired-token"))
+                    .willThrow(new AuthException(ErrorCode.AUTH_005));
+            request.addHeader("Authorization", "Bearer expired-token");
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(response.getContentAsString()).contains("\"code\":\"AUTH_005\"");
+            assertThat(meterRegistry.get("api.errors").tag("code", "AUTH_005").counter().count()).isEqualTo(1);
+            assertThat(filterChain.getRequest()).isNull();
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 유효하지 않은 토큰은 401 AUTH_006 응답")
+        void doFilter_InvalidToken_Returns401() throws Exception {
+            // given
+            given(jwtTokenProvider.authenticate("invalid-token"))
+                    .willThrow(new AuthException(ErrorCode.AUTH_006));
+            request.addHeader("Authorization", "Bearer invalid-token");
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(response.getContentAsString()).contains("\"code\":\"AUTH_006\"");
+            assertThat(filterChain.getRequest()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("계정 상태/역할 확인 테스트 (user.identity-cache.request-check=true)")
+    class IdentityCheckTest {
+
+        private JwtAuthenticationFilter checkedFilter;
+
+        @BeforeEach
+        void setUp() {
+            checkedFilter = new JwtAuthenticationFilter(jwtTokenProvider, userIdentityCache, entryPoint);
+            request.addHeader("Authorization", "Bearer valid-token");
+        }
+
+        @Test
+        @DisplayName("성공: 활성 계정은 캐시에서 상태 확인 후 토큰 역할로 인증")
+        void doFilter_ActiveAccount() throws Exception {
+            // given
+            given(jwtTokenProvider.authenticate("valid-token")).willReturn(principal(UserRole.ADMIN));
+            given(userIdentityCache.get(1L)).willReturn(profile(UserRole.ADMIN, UserStatus.ACTIVE));
+
+            // when
+            checkedFilter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_ADMIN");
+            assertThat(filterChain.getRequest()).isNotNull();
+            verify(userIdentityCache).get(1L);
+        }
+
+        @Test
+        @DisplayName("실패: 토큰 발급 후 비활성화된 계정은 401 AUTH_004 응답")
+        void doFilter_InactiveAccount_Returns401() throws Exception {
+            // given
+            given(jwtTokenProvider.authenticate("valid-token")).willReturn(principal(UserRole.ADMIN));
+            given(userIdentityCache.get(1L)).willReturn(profile(UserRole.ADMIN, UserStatus.INACTIVE));
+
+            // when
+            checkedFilter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(response.getContentAsString()).contains("\"code\":\"AUTH_004\"");
+            assertThat(filterChain.getRequest()).isNull();
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 삭제된 계정의 토큰은 401 AUTH_006 응답")
+        void doFilter_DeletedAccount_Returns401() throws Exception {
+            // given
+            given(jwtTokenProvider.authenticate("valid-token")).willReturn(principal(UserRole.ADMIN));
+
+            // when
+            checkedFilter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(response.getContentAsString()).contains("\"code\":\"AUTH_006\"");
+            assertThat(filterChain.getRequest()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 토큰 발급 후 역할이 바뀌면 현재 역할로 권한 부여")
+        void doFilter_RoleChanged_UsesCurrentRole() throws Exception {
+            // given
+            given(jwtTokenProvider.authenticate("valid-token")).willReturn(principal(UserRole.ADMIN));
+            given(userIdentityCache.get(1L)).willReturn(profile(UserRole.STAFF, UserStatus.ACTIVE));
+
+            // when
+            checkedFilter.doFilter(request, response, filterChain);
+
+            // then
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            assertThat(authentication.getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_STAFF");
+            assertThat(((AuthenticatedPrincipal) authentication.getPrincipal()).getRole()).isEqualTo(UserRole.STAFF);
+        }
+
+        @Test
+        @DisplayName("실패: 서명 검증에 실패한 토큰은 계정 조회 없이 401")
+        void doFilter_InvalidToken_SkipsLookup() throws Exception {
+            // given
+            given(jwtTokenProvider.authenticate("valid-token")).willThrow(new AuthException(ErrorCode.AUTH_006));
+
+            // when
+            checkedFilter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(401);
+            verifyNoInteractions(userIdentityCache);
+        }
+    }
+
+    private static AuthenticatedPrincipal principal(UserRole role) {
+        return AuthenticatedPrincipal.builder()
+                .userId(1L)
+                .email("test@academy.com")
+                .role(role)
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    private static UserProfile profile(UserRole role, UserStatus status) {
+        return new UserProfile(1L, "test@academy.com", "테스트 사용자", role, status);
+    }
+}
@@ -0,0 +1,253 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtKeyRing / HmacSha256Algorithm / MacPool 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class JwtKeyRingTest {
+
+    private static final String SECRET =
+            "reacademix-jwt-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+    private static final String KEY_1 = "reacademix-rotation-key-one-0123456789abcdef";
+    private static final String KEY_2 = "reacademix-rotation-key-two-0123456789abcdef";
+
+    @TempDir
+    Path tempDir;
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+    private Path keyFile;
+
+    @BeforeEach
+    void setUp() {
+        keyFile = tempDir.resolve("jwt-keys.properties");
+    }
+
+    private JwtTokenProvider createProvider(JwtKeyRing keyRing) {
+        return createProvider(keyRing, VerifiedTokenCache.disabled());
+    }
+
+    private JwtTokenProvider createProvider(JwtKeyRing keyRing, VerifiedTokenCache cache) {
+        JwtTokenProvider provider = new JwtTokenProvider(cache,
+                new InMemoryTokenRevocationStore(clock, 3_600_000L, 1_000), clock, new SimpleMeterRegistry(), keyRing);
+        ReflectionTestUtils.setField(provider, "expirationTime", 86_400_000L);
+        provider.init();
+        return provider;
+    }
+
+    private void writeKeyFile(String content) throws IOException {
+        Files.writeString(keyFile, content, StandardCharsets.UTF_8);
+    }
+
+    private String generate(JwtTokenProvider provider) {
+        return provider.generateToken(42L, "test@academy.com", UserRole.MANAGER);
+    }
+
+    private void assertErrorCode(Throwable e, ErrorCode errorCode) {
+        assertThat(((AuthException) e).getErrorCode()).isEqualTo(errorCode);
+    }
+
+    @Nested
+    @DisplayName("키 교체 테스트")
+    class RotationTest {
+
+        @Test
+        @DisplayName("성공: 서명 키를 교체해도 이전 키가 남아 있으면 기존 토큰 유효")
+        void rotate_OldTokenStillValid() throws IOException {
+            // given
+            writeKeyFile("signing-kid=k1\nkey.k1=" + KEY_1 + "\n");
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, keyFile.toString());
+            JwtTokenProvider provider = createProvider(keyRing);
+            String oldToken = generate(provider);
+
+            // when
+            writeKeyFile("signing-kid=k2\nkey.k1=" + KEY_1 + "\nkey.k2=" + KEY_2 + "\n");
+            keyRing.reloadIfChanged();
+            String newToken = generate(provider);
+
+            // then
+            assertThat(keyRing.signingKey().kid()).isEqualTo("k2");
+            assertThat(keyRing.kids()).containsExactly("k1", "k2");
+            assertThat(provider.authenticate(oldToken).getUserId()).isEqualTo(42L);
+            assertThat(provider.authenticate(newToken).getUserId()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("실패: 이전 키를 삭제하면 그 키로 서명된 토큰 거부 (AUTH_006)")
+        void removeOldKey_OldTokenRejected() throws IOException {
+            // given
+            writeKeyFile("signing-kid=k1\nkey.k1=" + KEY_1 + "\n");
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, keyFile.toString());
+            JwtTokenProvider provider = createProvider(keyRing);
+            String oldToken = generate(provider);
+
+            // when
+            writeKeyFile("signing-kid=k2\nkey.k2=" + KEY_2 + "\n");
+            keyRing.reloadIfChanged();
+            String newToken = generate(provider);
+
+            // then
+            assertThatThrownBy(() -> provider.authenticate(oldToken))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertErrorCode(e, ErrorCode.AUTH_006));
+            assertThat(provider.authenticate(newToken).getUserId()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("성공: 수정 시각이 같아도 내용이 바뀌면 재적재")
+        void reload_SameModifiedTime_DetectsContentChange() throws IOException {
+            // given
+            writeKeyFile("signing-kid=k1\nkey.k1=" + KEY_1 + "\n");
+            FileTime modifiedAt = Files.getLastModifiedTime(keyFile);
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, keyFile.toString());
+
+            // when
+            writeKeyFile("signing-kid=k2\nkey.k1=" + KEY_1 + "\nkey.k2=" + KEY_2 + "\n");
+            Files.setLastModifiedTime(keyFile, modifiedAt);
+            keyRing.reloadIfChanged();
+
+            // then
+            assertThat(keyRing.signingKey().kid()).isEqualTo("k2");
+        }
+
+        @Test
+        @DisplayName("실패: 키를 삭제하면 검증 캐시에 있던 토큰도 거부 (AUTH_006)")
+        void removeOldKey_CachedTokenRejected() throws IOException {
+            // given
+            writeKeyFile("signing-kid=k1\nkey.k1=" + KEY_1 + "\n");
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, keyFile.toString());
+            VerifiedTokenCache cache = new VerifiedTokenCache(clock, true, 100);
+            JwtTokenProvider provider = createProvider(keyRing, cache);
+            String oldToken = generate(provider);
+            provider.authenticate(oldToken);
+
+            // when
+            writeKeyFile("signing-kid=k2\nkey.k2=" + KEY_2 + "\n");
+            keyRing.reloadIfChanged();
+
+            // then
+            assertThat(cache.get(oldToken)).isNull();
+            assertThatThrownBy(() -> provider.authenticate(oldToken))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertErrorCode(e, ErrorCode.AUTH_006));
+        }
+
+        @Test
+        @DisplayName("성공: 잘못된 키 파일(서명 키 누락, 짧은 키)은 무시하고 기존 키 유지")
+        void reload_InvalidFile_KeepsPreviousKeys() throws IOException {
+            // given
+            writeKeyFile("signing-kid=k1\nkey.k1=" + KEY_1 + "\n");
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, keyFile.toString());
+            JwtTokenProvider provider = createProvider(keyRing);
+            String token = generate(provider);
+
+            // when
+            writeKeyFile("signing-kid=k3\nkey.k1=" + KEY_1 + "\n");
+            keyRing.reloadIfChanged();
+            writeKeyFile("signing-kid=k2\nkey.k2=too-short\n");
+            keyRing.reloadIfChanged();
+
+            // then
+            assertThat(keyRing.signingKey().kid()).isEqualTo("k1");
+            assertThat(keyRing.kids()).containsExactly("k1");
+            assertThat(provider.authenticate(token).getUserId()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("실패: 시작 시 키 파일이 없으면 예외")
+        void create_MissingFile() {
+            assertThatThrownBy(() -> new JwtKeyRing(SECRET, tempDir.resolve("missing.properties").toString()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("단일 키 테스트")
+    class DefaultKeyTest {
+
+        @Test
+        @DisplayName("성공: 키 파일이 없으면 jwt.secret 을 default 키로 사용")
+        void create_WithoutFile_UsesSecret() {
+            // when
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, "");
+
+            // then
+            assertThat(keyRing.signingKey().kid()).isEqualTo(JwtKeyRing.DEFAULT_KID);
+            assertThat(keyRing.kids()).containsExactly(JwtKeyRing.DEFAULT_KID);
+        }
+
+        @Test
+        @DisplayName("성공: kid 가 없는 HS256 토큰은 default 키로 검증")
+        void authenticate_WithoutKid() {
+            // given
+            JwtTokenProvider provider = createProvider(new JwtKeyRing(SECRET, ""));
+            String token = Jwts.builder()
+                    .id("legacy")
+                    .subject("42")
+                    .claim("email", "test@academy.com")
+                    .claim("role", UserRole.MANAGER.name())
+                    .issuedAt(Date.from(clock.instant()))
+                    .expiration(Date.from(clock.instant().plusSeconds(60)))
+                    .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                    .compact();
+
+            // when & then
+            assertThat(provider.authenticate(token).getUserId()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("실패: 32바이트 미만 비밀 키는 거부")
+        void create_ShortSecret() {
+            assertThatThrownBy(() -> new JwtKeyRing("too-short", ""))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Mac 풀 테스트")
+    class MacPoolTest {
+
+        @Test
+        @DisplayName("성공: 반납한 Mac 을 다음 대여에서 재사용")
+        void acquire_ReusesReleasedMac() {
+            // given
+            MacPool pool = new JwtKeyRing(SECRET, "").signingKey().macPool();
+            Mac first = pool.acquire();
+            pool.release(first);
+
+            // when
+            Mac second = pool.acquire();
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+    }
+}
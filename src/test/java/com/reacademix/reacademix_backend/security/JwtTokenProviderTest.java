@@ -0,0 +1,285 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtTokenProvider 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "reacademix-jwt-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private InMemoryTokenRevocationStore revocationStore;
+    private Clock clock;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        revocationStore = new InMemoryTokenRevocationStore(clock, 3_600_000L, 1_000);
+        jwtTokenProvider = createProvider(SECRET, 86_400_000L);
+
+        testUser = User.builder()
+                .email("test@academy.com")
+                .password("$2a$10$encodedPassword")
+                .name("테스트 사용자")
+                .role(UserRole.MANAGER)
+                .status(UserStatus.ACTIVE)
+                .build();
+        ReflectionTestUtils.setField(testUser, "id", 42L);
+    }
+
+    private JwtTokenProvider createProvider(String secret, long expiration) {
+        return createProvider(secret, expiration, VerifiedTokenCache.disabled());
+    }
+
+    private JwtTokenProvider createProvider(String secret, long expiration, VerifiedTokenCache cache) {
+        JwtTokenProvider provider = new JwtTokenProvider(cache, revocationStore, clock, new SimpleMeterRegistry(),
+                new JwtKeyRing(secret, ""));
+        ReflectionTestUtils.setField(provider, "expirationTime", expiration);
+        provider.init();
+        return provider;
+    }
+
+    private void assertErrorCode(Throwable e, ErrorCode errorCode) {
+        assertThat(((AuthException) e).getErrorCode()).isEqualTo(errorCode);
+    }
+
+    @Nested
+    @DisplayName("토큰 검증 테스트")
+    class AuthenticateTest {
+
+        @Test
+        @DisplayName("성공: 한 번의 검증으로 id, email, role, 만료 시각 반환")
+        void authenticate_Success() {
+            // given
+            String token = jwtTokenProvider.generateToken(testUser);
+
+            // when
+            AuthenticatedPrincipal principal = jwtTokenProvider.authenticate(token);
+
+            // then
+            assertThat(principal.getUserId()).isEqualTo(42L);
+            assertThat(principal.getEmail()).isEqualTo("test@academy.com");
+            assertThat(principal.getRole()).isEqualTo(UserRole.MANAGER);
+            assertThat(principal.getTokenId()).isNotBlank();
+            assertThat(principal.getExpiresAt()).isAfter(Instant.now());
+        }
+
+        @Test
+        @DisplayName("성공: 기존 조회 메서드는 동일한 인증 주체 값을 반환")
+        void getters_ReturnPrincipalValues() {
+            // given
+            String token = jwtTokenProvider.generateToken(testUser);
+
+            // when & then
+            assertThat(jwtTokenProvider.getUserIdFromToken(token)).isEqualTo(42L);
+            assertThat(jwtTokenProvider.getEmailFromToken(token)).isEqualTo("test@academy.com");
+            assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+        }
+
+        @Test
+        @DisplayName("실패: 만료된 토큰 (AUTH_005)")
+        void authenticate_Fail_Expired() {
+            // given
+            JwtTokenProvider expiredProvider = createProvider(SECRET, -1_000L);
+            String token = expiredProvider.generateToken(testUser);
+
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertErrorCode(e, ErrorCode.AUTH_005));
+        }
+
+        @Test
+        @DisplayName("실패: 주입된 Clock 기준으로 만료 판단 (AUTH_005)")
+        void authenticate_Fail_ExpiredByClock() {
+            // given
+            Instant issuedAt = clock.instant();
+            String token = jwtTokenProvider.generateToken(testUser);
+            clock = Clock.offset(clock, Duration.ofHours(25));
+            JwtTokenProvider laterProvider = createProvider(SECRET, 86_400_000L);
+
+            // when & then
+            assertThat(jwtTokenProvider.authenticate(token).getExpiresAt())
+                    .isEqualTo(Instant.ofEpochSecond(issuedAt.plus(Duration.ofHours(24)).getEpochSecond()));
+            assertThatThrownBy(() -> laterProvider.authenticate(token))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertErrorCode(e, ErrorCode.AUTH_005));
+        }
+
+        @Test
+        @DisplayName("실패: 다른 키로 서명된 토큰 (AUTH_006)")
+        void authenticate_Fail_WrongSignature() {
+            // given
+            JwtTokenProvider otherProvider = createProvider(SECRET + "-other", 86_400_000L);
+            String token = otherProvider.generateToken(testUser);
+
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertErrorCode(e, ErrorCode.AUTH_006));
+        }
+
+        @Test
+        @DisplayName("실패: 형식이 잘못된 토큰 (AUTH_006)")
+        void authenticate_Fail_Malformed() {
+            assertThatThrownBy(() -> jwtTokenProvider.authenticate("not-a-jwt"))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertErrorCode(e, ErrorCode.AUTH_006));
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 캐시 테스트")
+    class VerifiedTokenCacheTest {
+
+        @Test
+        @DisplayName("성공: 같은 토큰 재검증 시 캐시에서 반환")
+        void authenticate_CacheHit() {
+            // given
+            VerifiedTokenCache cache = new VerifiedTokenCache(clock, true, 100);
+            JwtTokenProvider cachedProvider = createProvider(SECRET, 86_400_000L, cache);
+            String token = cachedProvider.generateToken(testUser);
+
+            // when
+            AuthenticatedPrincipal first = cachedProvider.authenticate(token);
+            AuthenticatedPrincipal second = cachedProvider.authenticate(token);
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(cache.stats().missCount()).isEqualTo(1);
+            assertThat(cache.stats().hitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 검증 실패한 토큰은 캐시에 저장하지 않음")
+        void authenticate_InvalidTokenNotCached() {
+            // given
+            VerifiedTokenCache cache = new VerifiedTokenCache(clock, true, 100);
+            JwtTokenProvider cachedProvider = createProvider(SECRET, 86_400_000L, cache);
+
+            // when & then
+            assertThatThrownBy(() -> cachedProvider.authenticate("not-a-jwt"))
+                    .isInstanceOf(AuthException.class);
+            assertThat(cache.get("not-a-jwt")).isNull();
+            assertThat(cache.estimatedSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: 캐시 비활성화 시 저장하지 않음")
+        void disabledCache_DoesNotStore() {
+            // given
+            VerifiedTokenCache cache = VerifiedTokenCache.disabled();
+            JwtTokenProvider cachedProvider = createProvider(SECRET, 86_400_000L, cache);
+            String token = cachedProvider.generateToken(testUser);
+
+            // when
+            AuthenticatedPrincipal first = cachedProvider.authenticate(token);
+            AuthenticatedPrincipal second = cachedProvider.authenticate(token);
+
+            // then
+            assertThat(second).isNotSameAs(first);
+            assertThat(cache.get(token)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("토큰 폐기 테스트")
+    class RevokeTokenTest {
+
+        @Test
+        @DisplayName("실패: 폐기된 토큰 검증 시 AUTH_006")
+        void authenticate_Fail_Revoked() {
+            // given
+            String token = jwtTokenProvider.generateToken(testUser);
+            jwtTokenProvider.revokeToken(token);
+
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertErrorCode(e, ErrorCode.AUTH_006));
+        }
+
+        @Test
+        @DisplayName("실패: 캐시에 남아 있는 토큰도 폐기 후에는 거부")
+        void authenticate_Fail_RevokedWhileCached() {
+            // given
+            VerifiedTokenCache cache = new VerifiedTokenCache(clock, true, 100);
+            JwtTokenProvider cachedProvider = createProvider(SECRET, 86_400_000L, cache);
+            String token = cachedProvider.generateToken(testUser);
+            AuthenticatedPrincipal principal = cachedProvider.authenticate(token);
+
+            // when
+            revocationStore.revoke(principal.getTokenId(), principal.getExpiresAt());
+
+            // then
+            assertThatThrownBy(() -> cachedProvider.authenticate(token))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertErrorCode(e, ErrorCode.AUTH_006));
+        }
+
+        @Test
+        @DisplayName("성공: 다른 토큰 폐기는 영향 없음")
+        void authenticate_OtherTokenRevoked() {
+            // given
+            String revoked = jwtTokenProvider.generateToken(testUser);
+            String active = jwtTokenProvider.generateToken(testUser);
+
+            // when
+            jwtTokenProvider.revokeToken(revoked);
+
+            // then
+            assertThat(jwtTokenProvider.authenticate(active).getUserId()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("성공: jti 없이 발급된 기존 토큰은 폐기 대상이 아니며 만료까지 유효")
+        void authenticate_WithoutJti() {
+            // given
+            String token = Jwts.builder()
+                    .subject("42")
+                    .claim("email", "test@academy.com")
+                    .claim("role", UserRole.MANAGER.name())
+                    .issuedAt(Date.from(clock.instant()))
+                    .expiration(Date.from(clock.instant().plusSeconds(60)))
+                    .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                    .compact();
+
+            // when
+            AuthenticatedPrincipal principal = jwtTokenProvider.revokeToken(token);
+
+            // then
+            assertThat(principal.getTokenId()).isNull();
+            assertThat(principal.getUserId()).isEqualTo(42L);
+            assertThat(jwtTokenProvider.authenticate(token).getUserId()).isEqualTo(42L);
+        }
+    }
+}
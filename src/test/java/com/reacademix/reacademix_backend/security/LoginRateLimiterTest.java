@@ -0,0 +1,177 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.exception.RateLimitException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LoginRateLimiter / InMemoryRateLimitStore 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class LoginRateLimiterTest {
+
+    /** 테스트 시간 소스 (나노초) */
+    private final AtomicLong nanos = new AtomicLong();
+
+    private InMemoryRateLimitStore store;
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRateLimitStore(1_000, Duration.ofMinutes(10), nanos::get);
+        // IP: 3회 연속 허용 후 1초마다 1회, 이메일+IP: 2회 연속 허용 후 10초마다 1회, 계정: 4회 연속 허용 후 30초마다 1회
+        limiter = new LoginRateLimiter(store, true, 3, Duration.ofSeconds(1), 2, Duration.ofSeconds(10),
+                4, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("성공: IP 버킷 크기만큼 연속 허용 후 429, 충전 간격이 지나면 다시 허용")
+    void check_IpBucket() {
+        // given
+        limiter.check("10.0.0.1", "a@academy.com");
+        limiter.check("10.0.0.1", "b@academy.com");
+        limiter.check("10.0.0.1", "c@academy.com");
+
+        // when & then
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "d@academy.com"))
+                .isInstanceOf(RateLimitException.class)
+                .satisfies(e -> {
+                    RateLimitException exception = (RateLimitException) e;
+                    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.AUTH_007);
+                    assertThat(exception.getRetryAfterSeconds()).isEqualTo(1);
+                });
+        assertThatCode(() -> limiter.check("10.0.0.2", "d@academy.com")).doesNotThrowAnyException();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThatCode(() -> limiter.check("10.0.0.1", "d@academy.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("성공: 이메일 버킷은 같은 IP에서 정규화된 이메일 기준으로 제한")
+    void check_EmailBucket_Normalized() {
+        // given
+        limiter.check("10.0.0.1", "Test@Academy.com");
+        limiter.check("10.0.0.1", " test@academy.com ");
+
+        // when & then
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "TEST@ACADEMY.COM"))
+                .isInstanceOf(RateLimitException.class)
+                .satisfies(e -> assertThat(((RateLimitException) e).getRetryAfterSeconds()).isEqualTo(10));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 IP에서 보낸 요청은 피해자 IP의 이메일 버킷을 소진하지 않음")
+    void check_EmailBucket_PerIp() {
+        // given
+        limiter.check("10.0.0.9", "victim@academy.com");
+        limiter.check("10.0.0.9", "victim@academy.com");
+        assertThatThrownBy(() -> limiter.check("10.0.0.9", "victim@academy.com"))
+                .isInstanceOf(RateLimitException.class);
+
+        // when & then
+        assertThatCode(() -> limiter.check("10.0.0.1", "victim@academy.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("성공: 계정 버킷은 여러 IP에 분산된 같은 이메일 요청을 합산해 제한")
+    void check_AccountBucket_AcrossIps() {
+        // given
+        for (int i = 1; i <= 4; i++) {
+            limiter.check("10.0.0." + i, "victim@academy.com");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> limiter.check("10.0.0.5", "Victim@Academy.com"))
+                .isInstanceOf(RateLimitException.class)
+                .satisfies(e -> assertThat(((RateLimitException) e).getRetryAfterSeconds()).isEqualTo(30));
+        assertThatCode(() -> limiter.check("10.0.0.5", "other@academy.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("성공: 이메일 버킷이 거부한 요청은 IP/계정 버킷 토큰을 소비하지 않음")
+    void check_Rejected_DoesNotChargeEarlierBuckets() {
+        // given: 같은 IP에서 이메일+IP 버킷 소진 (IP 토큰 2개 사용)
+        limiter.check("10.0.0.1", "test@academy.com");
+        limiter.check("10.0.0.1", "test@academy.com");
+
+        // when: 거부된 요청이 IP 버킷(크기 3)을 소비했다면 이후 다른 이메일도 거부됨
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> limiter.check("10.0.0.1", "test@academy.com"))
+                    .isInstanceOf(RateLimitException.class);
+        }
+
+        // then
+        assertThatCode(() -> limiter.check("10.0.0.1", "other@academy.com")).doesNotThrowAnyException();
+        assertThatCode(() -> limiter.check("10.0.0.2", "test@academy.com")).doesNotThrowAnyException();
+        assertThatCode(() -> limiter.check("10.0.0.3", "test@academy.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("성공: 비활성화 시 제한 없음")
+    void check_Disabled() {
+        // given
+        LoginRateLimiter disabled = new LoginRateLimiter(store, false, 1, Duration.ofHours(1), 1, Duration.ofHours(1),
+                1, Duration.ofHours(1));
+
+        // when & then
+        assertThatCode(() -> {
+            for (int i = 0; i < 100; i++) {
+                disabled.check("10.0.0.1", "test@academy.com");
+            }
+        }).doesNotThrowAnyException();
+        assertThat(store.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 오래 요청이 없던 버킷은 최대 크기까지만 충전")
+    void tryAcquire_RefillCappedAtCapacity() {
+        // given
+        long interval = TimeUnit.SECONDS.toNanos(1);
+        store.tryAcquire("ip:10.0.0.1", 2, interval);
+        nanos.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        // when
+        long first = store.tryAcquire("ip:10.0.0.1", 2, interval);
+        long second = store.tryAcquire("ip:10.0.0.1", 2, interval);
+        long third = store.tryAcquire("ip:10.0.0.1", 2, interval);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(interval);
+    }
+
+    @Test
+    @DisplayName("성공: 반환한 토큰은 다시 소비 가능하지만 버킷 크기를 넘어 쌓이지 않음")
+    void release_RestoresTokenUpToCapacity() {
+        // given
+        long interval = TimeUnit.SECONDS.toNanos(1);
+        store.tryAcquire("ip:10.0.0.1", 2, interval);
+        store.tryAcquire("ip:10.0.0.1", 2, interval);
+
+        // when & then
+        store.release("ip:10.0.0.1", interval);
+        assertThat(store.tryAcquire("ip:10.0.0.1", 2, interval)).isZero();
+        assertThat(store.tryAcquire("ip:10.0.0.1", 2, interval)).isEqualTo(interval);
+
+        // when & then: 가득 찬 버킷에 반환해도 크기만큼만 허용
+        nanos.addAndGet(TimeUnit.HOURS.toNanos(1));
+        store.release("ip:10.0.0.1", interval);
+        store.release("ip:10.0.0.1", interval);
+        assertThat(store.tryAcquire("ip:10.0.0.1", 2, interval)).isZero();
+        assertThat(store.tryAcquire("ip:10.0.0.1", 2, interval)).isZero();
+        assertThat(store.tryAcquire("ip:10.0.0.1", 2, interval)).isEqualTo(interval);
+    }
+}
@@ -0,0 +1,146 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PasswordHasher 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    private PasswordHasher createHasher(PasswordEncoder encoder, int threads, int queueCapacity) {
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(false, 250, 4, 4);
+        return new PasswordHasher(encoder, calibrator, meterRegistry, threads, queueCapacity, 5_000);
+    }
+
+    @Test
+    @DisplayName("성공: 전용 스레드 풀에서 해시/검증 후 소요 시간 기록")
+    void encodeAndMatches() {
+        // given
+        passwordHasher = createHasher(new BCryptPasswordEncoder(4), 2, 10);
+
+        // when
+        String encoded = passwordHasher.encode("SecurePass123!");
+
+        // then
+        assertThat(passwordHasher.matches("SecurePass123!", encoded)).isTrue();
+        assertThat(passwordHasher.matches("WrongPassword!", encoded)).isFalse();
+        assertThat(passwordHasher.getHashCount()).isEqualTo(3);
+        assertThat(passwordHasher.getTotalHashNanos()).isPositive();
+        assertThat(meterRegistry.get("security.password.hash").tag("operation", "verify").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("security.password.hash").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 여러 비밀번호를 병렬로 해시하고 입력 순서대로 반환")
+    void encodeAll() {
+        // given
+        passwordHasher = createHasher(new BCryptPasswordEncoder(4), 2, 10);
+
+        // when
+        List<String> hashes = passwordHasher.encodeAll(List.of("FirstPass123!", "SecondPass123!", "ThirdPass123!"));
+
+        // then
+        assertThat(hashes).hasSize(3);
+        assertThat(passwordHasher.matches("FirstPass123!", hashes.get(0))).isTrue();
+        assertThat(passwordHasher.matches("SecondPass123!", hashes.get(1))).isTrue();
+        assertThat(passwordHasher.matches("ThirdPass123!", hashes.get(2))).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: 저장된 해시의 cost가 현재 strength보다 낮을 때만 재해시 대상")
+    void needsRehash() {
+        // given
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(false, 250, 10, 14);
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), calibrator, meterRegistry, 1, 1, 5_000);
+
+        // when & then
+        assertThat(passwordHasher.needsRehash("$2a$04$abcdefghijklmnopqrstuu")).isTrue();
+        assertThat(passwordHasher.needsRehash("$2a$10$abcdefghijklmnopqrstuu")).isFalse();
+        assertThat(passwordHasher.needsRehash("$2a$12$abcdefghijklmnopqrstuu")).isFalse();
+        assertThat(passwordHasher.needsRehash("not-a-bcrypt-hash")).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 더미 해시를 저장된 해시의 cost로 다시 만들고 검증에 사용")
+    void alignDummyHash() {
+        // given
+        passwordHasher = createHasher(new BCryptPasswordEncoder(4), 1, 10);
+
+        // when
+        passwordHasher.alignDummyHash(5);
+        passwordHasher.matchesDummy("SecurePass123!");
+
+        // then
+        assertThat(passwordHasher.getDummyStrength()).isEqualTo(5);
+        assertThat(passwordHasher.getHashCount()).isEqualTo(1);
+        assertThat(PasswordHasher.costOf("$2a$12$")).isEqualTo(12);
+        assertThat(PasswordHasher.costOf("not-a-bcrypt-hash")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("실패: 대기 큐가 가득 차면 즉시 SYSTEM_004")
+    void matches_Fail_QueueFull() throws Exception {
+        // given: 스레드 1개, 큐 1개를 모두 점유
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        passwordHasher = createHasher(blockingEncoder, 1, 1);
+
+        List<CompletableFuture<Boolean>> pending = new ArrayList<>();
+        pending.add(CompletableFuture.supplyAsync(() -> passwordHasher.matches("a", "b")));
+        pending.add(CompletableFuture.supplyAsync(() -> passwordHasher.matches("a", "b")));
+        while (passwordHasher.getQueueDepth() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.matches("a", "b"))
+                .isInstanceOf(AuthException.class)
+                .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(ErrorCode.SYSTEM_004));
+        assertThat(passwordHasher.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        for (CompletableFuture<Boolean> future : pending) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
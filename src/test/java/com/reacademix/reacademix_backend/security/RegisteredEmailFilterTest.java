@@ -0,0 +1,107 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * RegisteredEmailFilter 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegisteredEmailFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = createFilter(new InMemoryRegisteredEmailBroadcaster());
+    }
+
+    private RegisteredEmailFilter createFilter(RegisteredEmailBroadcaster broadcaster) {
+        return new RegisteredEmailFilter(userRepository, new TransactionTemplate(transactionManager), broadcaster,
+                true, 1_000);
+    }
+
+    @Test
+    @DisplayName("성공: 초기화 전에는 모든 이메일을 DB 조회 대상으로 판정")
+    void mightContain_BeforeWarmUp() {
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain("unknown@academy.com")).isTrue();
+        assertThat(filter.getLookupsAvoided()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 가입된 이메일은 통과, 없는 이메일은 DB 조회 생략")
+    void mightContain_AfterWarmUp() {
+        // given
+        given(userRepository.count()).willReturn(2L);
+        given(userRepository.streamAllEmails()).willReturn(Stream.of("a@academy.com", "b@academy.com"));
+
+        // when
+        filter.warmUp();
+
+        // then
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.mightContain("a@academy.com")).isTrue();
+        assertThat(filter.mightContain("b@academy.com")).isTrue();
+        assertThat(filter.mightContain("unknown@academy.com")).isFalse();
+        assertThat(filter.getLookupsAvoided()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 회원가입으로 추가된 이메일은 즉시 통과")
+    void add_AfterWarmUp() {
+        // given
+        given(userRepository.count()).willReturn(0L);
+        given(userRepository.streamAllEmails()).willReturn(Stream.empty());
+        filter.warmUp();
+
+        // when
+        filter.add("new@academy.com");
+
+        // then
+        assertThat(filter.mightContain("new@academy.com")).isTrue();
+        assertThat(filter.getRegisteredCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 한 노드에서 가입한 이메일은 채널을 공유하는 다른 노드의 필터도 즉시 통과")
+    void add_BroadcastToOtherNode() {
+        // given
+        RegisteredEmailBroadcaster channel = new InMemoryRegisteredEmailBroadcaster();
+        RegisteredEmailFilter nodeA = createFilter(channel);
+        RegisteredEmailFilter nodeB = createFilter(channel);
+        given(userRepository.count()).willReturn(0L);
+        given(userRepository.streamAllEmails()).willReturn(Stream.empty(), Stream.empty());
+        nodeA.warmUp();
+        nodeB.warmUp();
+
+        // when
+        nodeA.add("new@academy.com");
+
+        // then
+        assertThat(nodeA.mightContain("new@academy.com")).isTrue();
+        assertThat(nodeB.mightContain("new@academy.com")).isTrue();
+        assertThat(nodeB.getRegisteredCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,135 @@
+package com.reacademix.reacademix_backend.security;
+
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UserIdentityCache 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class UserIdentityCacheTest {
+
+    private static final UserProfile ACTIVE = new UserProfile(
+            1L, "test@academy.com", "테스트 사용자", UserRole.ADMIN, UserStatus.ACTIVE);
+    private static final UserProfile INACTIVE = new UserProfile(
+            1L, "test@academy.com", "테스트 사용자", UserRole.ADMIN, UserStatus.INACTIVE);
+
+    @Mock
+    private UserRepository userRepository;
+
+    private InMemoryUserIdentityInvalidationBroadcaster broadcaster;
+    private UserIdentityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new InMemoryUserIdentityInvalidationBroadcaster();
+        cache = newCache();
+    }
+
+    @Test
+    @DisplayName("성공: 두 번째 조회부터 DB 조회 없이 캐시 적중")
+    void get_CachesProfile() {
+        // given
+        given(userRepository.findProfileById(1L)).willReturn(Optional.of(ACTIVE));
+
+        // when
+        cache.get(1L);
+        UserProfile profile = cache.get(1L);
+
+        // then
+        assertThat(profile).isEqualTo(ACTIVE);
+        verify(userRepository, times(1)).findProfileById(1L);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("성공: 캐시 적중/미스와 크기를 cache=user.identity 메트릭으로 노출")
+    void bindTo_RegistersCacheMetrics() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        given(userRepository.findProfileById(1L)).willReturn(Optional.of(ACTIVE));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+
+        // then
+        assertThat(registry.get("cache.gets").tags("cache", "user.identity", "result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "user.identity", "result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.size").tag("cache", "user.identity").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 존재하지 않는 사용자는 캐시하지 않음")
+    void get_DoesNotCacheMissingUser() {
+        // given
+        given(userRepository.findProfileById(2L)).willReturn(Optional.empty());
+
+        // when
+        UserProfile profile = cache.get(2L);
+
+        // then
+        assertThat(profile).isNull();
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 상태 변경 이벤트 후 다음 조회는 새 상태를 반환")
+    void onIdentityChanged_InvalidatesEntry() {
+        // given
+        given(userRepository.findProfileById(1L)).willReturn(Optional.of(ACTIVE), Optional.of(INACTIVE));
+        cache.get(1L);
+
+        // when
+        cache.onIdentityChanged(new UserIdentityChangedEvent(1L));
+
+        // then
+        assertThat(cache.get(1L).status()).isEqualTo(UserStatus.INACTIVE);
+    }
+
+    @Test
+    @DisplayName("성공: 한 노드의 무효화가 전파 채널을 통해 다른 노드 캐시에도 반영")
+    void invalidate_BroadcastsToOtherNodes() {
+        // given
+        UserIdentityCache otherNode = newCache();
+        given(userRepository.findProfileById(1L))
+                .willReturn(Optional.of(ACTIVE), Optional.of(ACTIVE), Optional.of(INACTIVE));
+        cache.get(1L);
+        otherNode.get(1L);
+
+        // when
+        cache.invalidate(1L);
+
+        // then
+        assertThat(otherNode.estimatedSize()).isZero();
+        assertThat(otherNode.get(1L).status()).isEqualTo(UserStatus.INACTIVE);
+    }
+
+    private UserIdentityCache newCache() {
+        return new UserIdentityCache(userRepository, broadcaster, true, 100, Duration.ofMinutes(5));
+    }
+}
@@ -1,6 +1,5 @@
 package com.reacademix.reacademix_backend.service;
 
-import com.reacademix.reacademix_backend.domain.user.User;
 import com.reacademix.reacademix_backend.domain.user.UserRole;
 import com.reacademix.reacademix_backend.domain.user.UserStatus;
 import com.reacademix.reacademix_backend.dto.request.LoginRequestDto;
@@ -8,7 +7,13 @@ import com.reacademix.reacademix_backend.dto.response.LoginResponseDto;
 import com.reacademix.reacademix_backend.exception.AuthException;
 import com.reacademix.reacademix_backend.exception.ErrorCode;
 import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.repository.projection.LoginCredential;
+import com.reacademix.reacademix_backend.repository.projection.UserProfile;
+import com.reacademix.reacademix_backend.security.AuthenticatedPrincipal;
 import com.reacademix.reacademix_backend.security.JwtTokenProvider;
+import com.reacademix.reacademix_backend.security.PasswordHasher;
+import com.reacademix.reacademix_backend.security.RegisteredEmailFilter;
+import com.reacademix.reacademix_backend.security.UserIdentityCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,15 +22,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * AuthService 단위 테스트
@@ -40,33 +53,45 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
+    @Mock
+    private Clock clock;
+
     @InjectMocks
     private AuthService authService;
 
-    private User testUser;
+    private LoginCredential testCredential;
     private LoginRequestDto loginRequest;
 
     @BeforeEach
     void setUp() {
-        // 테스트용 사용자 생성
-        testUser = User.builder()
-                .email("test@academy.com")
-                .password("$2a$10$encodedPassword")  // bcrypt 해시
-                .name("테스트 사용자")
-                .role(UserRole.ADMIN)
-                .status(UserStatus.ACTIVE)
-                .build();
+        // 테스트용 사용자 로그인 정보 생성
+        testCredential = new LoginCredential(
+                1L, "test@academy.com", "테스트 사용자",
+                UserRole.ADMIN, UserStatus.ACTIVE,
+                "$2a$10$encodedPassword");  // bcrypt 해시
 
         // 테스트용 로그인 요청 생성
         loginRequest = LoginRequestDto.builder()
                 .email("test@academy.com")
                 .password("SecurePass123!")
                 .build();
+
+        // 기본: 가입 이메일 필터 통과 (DB 조회 진행)
+        lenient().when(registeredEmailFilter.mightContain(anyString())).thenReturn(true);
     }
 
     @Nested
@@ -77,14 +102,16 @@ class AuthServiceTest {
         @DisplayName("성공: 올바른 이메일과 비밀번호로 로그인")
         void login_Success() {
             // given
-            given(userRepository.findByEmail("test@academy.com"))
-                    .willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches("SecurePass123!", testUser.getPassword()))
+            given(userRepository.findLoginCredentialByEmail("test@academy.com"))
+                    .willReturn(Optional.of(testCredential));
+            given(passwordHasher.matches("SecurePass123!", testCredential.passwordHash()))
                     .willReturn(true);
-            given(jwtTokenProvider.generateToken(testUser))
+            given(jwtTokenProvider.generateToken(1L, "test@academy.com", UserRole.ADMIN))
                     .willReturn("jwt-token-string");
             given(jwtTokenProvider.getExpirationTimeInSeconds())
-                    .willReturn(86400L);
+                    .willReturn(900L);
+            given(refreshTokenService.issue(1L)).willReturn("refresh-token-string");
+            given(refreshTokenService.getExpirationTimeInSeconds()).willReturn(1_209_600L);
 
             // when
             LoginResponseDto response = authService.login(loginRequest);
@@ -93,14 +120,16 @@ class AuthServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.getToken()).isEqualTo("jwt-token-string");
             assertThat(response.getTokenType()).isEqualTo("Bearer");
-            assertThat(response.getExpiresIn()).isEqualTo(86400L);
+            assertThat(response.getExpiresIn()).isEqualTo(900L);
+            assertThat(response.getRefreshToken()).isEqualTo("refresh-token-string");
+            assertThat(response.getRefreshExpiresIn()).isEqualTo(1_209_600L);
             assertThat(response.getUser()).isNotNull();
             assertThat(response.getUser().getEmail()).isEqualTo("test@academy.com");
             assertThat(response.getUser().getName()).isEqualTo("테스트 사용자");
 
-            verify(userRepository).findByEmail("test@academy.com");
-            verify(passwordEncoder).matches("SecurePass123!", testUser.getPassword());
-            verify(jwtTokenProvider).generateToken(testUser);
+            verify(userRepository).findLoginCredentialByEmail("test@academy.com");
+            verify(passwordHasher).matches("SecurePass123!", testCredential.passwordHash());
+            verify(jwtTokenProvider).generateToken(1L, "test@academy.com", UserRole.ADMIN);
         }
 
         @Test
@@ -112,28 +141,71 @@ class AuthServiceTest {
                     .password("SecurePass123!")
                     .build();
 
-            given(userRepository.findByEmail("test@academy.com"))
-                    .willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches("SecurePass123!", testUser.getPassword()))
+            given(userRepository.findLoginCredentialByEmail("test@academy.com"))
+                    .willReturn(Optional.of(testCredential));
+            given(passwordHasher.matches("SecurePass123!", testCredential.passwordHash()))
                     .willReturn(true);
-            given(jwtTokenProvider.generateToken(testUser))
+            given(jwtTokenProvider.generateToken(1L, "test@academy.com", UserRole.ADMIN))
                     .willReturn("jwt-token-string");
             given(jwtTokenProvider.getExpirationTimeInSeconds())
-                    .willReturn(86400L);
+                    .willReturn(900L);
 
             // when
             LoginResponseDto response = authService.login(upperCaseRequest);
 
             // then
             assertThat(response).isNotNull();
-            verify(userRepository).findByEmail("test@academy.com");
+            verify(userRepository).findLoginCredentialByEmail("test@academy.com");
+        }
+
+        @Test
+        @DisplayName("성공: 저장된 해시의 cost가 현재 strength와 다르면 재해시")
+        void login_Success_RehashOnCostChange() {
+            // given
+            given(userRepository.findLoginCredentialByEmail("test@academy.com"))
+                    .willReturn(Optional.of(testCredential));
+            given(passwordHasher.matches("SecurePass123!", "$2a$10$encodedPassword"))
+                    .willReturn(true);
+            given(passwordHasher.needsRehash("$2a$10$encodedPassword"))
+                    .willReturn(true);
+            given(passwordHasher.encode("SecurePass123!"))
+                    .willReturn("$2a$12$rehashedPassword");
+            given(clock.instant()).willReturn(Instant.parse("2025-03-01T00:00:00Z"));
+            given(clock.getZone()).willReturn(ZoneOffset.UTC);
+            given(jwtTokenProvider.generateToken(1L, "test@academy.com", UserRole.ADMIN))
+                    .willReturn("jwt-token-string");
+
+            // when
+            authService.login(loginRequest);
+
+            // then
+            verify(userRepository).updatePassword(eq(1L), eq("$2a$12$rehashedPassword"),
+                    eq(LocalDateTime.of(2025, 3, 1, 0, 0)));
+        }
+
+        @Test
+        @DisplayName("실패: 비밀번호 해시 대기 큐 포화 (SYSTEM_004)")
+        void login_Fail_HashingOverloaded() {
+            // given
+            given(userRepository.findLoginCredentialByEmail("test@academy.com"))
+                    .willReturn(Optional.of(testCredential));
+            given(passwordHasher.matches(anyString(), anyString()))
+                    .willThrow(new AuthException(ErrorCode.SYSTEM_004));
+
+            // when & then
+            assertThatThrownBy(() -> authService.login(loginRequest))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> {
+                        AuthException authException = (AuthException) e;
+                        assertThat(authException.getErrorCode()).isEqualTo(ErrorCode.SYSTEM_004);
+                    });
         }
 
         @Test
         @DisplayName("실패: 존재하지 않는 이메일 (AUTH_002)")
         void login_Fail_UserNotFound() {
             // given
-            given(userRepository.findByEmail(anyString()))
+            given(userRepository.findLoginCredentialByEmail(anyString()))
                     .willReturn(Optional.empty());
 
             // when & then
@@ -145,13 +217,44 @@ class AuthServiceTest {
                     });
         }
 
+        @Test
+        @DisplayName("실패: 가입 이메일 필터에서 없는 이메일은 DB 조회 없이 AUTH_002 (더미 BCrypt 수행)")
+        void login_Fail_UserNotFound_SkipsDatabase() {
+            // given
+            given(registeredEmailFilter.mightContain("test@academy.com")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> authService.login(loginRequest))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> {
+                        AuthException authException = (AuthException) e;
+                        assertThat(authException.getErrorCode()).isEqualTo(ErrorCode.AUTH_002);
+                    });
+            verify(passwordHasher).matchesDummy("SecurePass123!");
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("실패: 필터 오탐 후 DB에 없는 이메일도 더미 BCrypt 수행 (AUTH_002)")
+        void login_Fail_UserNotFound_FalsePositive() {
+            // given
+            given(userRepository.findLoginCredentialByEmail("test@academy.com"))
+                    .willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> authService.login(loginRequest))
+                    .isInstanceOf(AuthException.class);
+            verify(passwordHasher).matchesDummy("SecurePass123!");
+            verify(registeredEmailFilter).recordFalsePositive();
+        }
+
         @Test
         @DisplayName("실패: 비밀번호 불일치 (AUTH_003)")
         void login_Fail_WrongPassword() {
             // given
-            given(userRepository.findByEmail("test@academy.com"))
-                    .willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(anyString(), anyString()))
+            given(userRepository.findLoginCredentialByEmail("test@academy.com"))
+                    .willReturn(Optional.of(testCredential));
+            given(passwordHasher.matches(anyString(), anyString()))
                     .willReturn(false);
 
             // when & then
@@ -167,15 +270,12 @@ class AuthServiceTest {
         @DisplayName("실패: 비활성화된 계정 (AUTH_004)")
         void login_Fail_InactiveAccount() {
             // given
-            User inactiveUser = User.builder()
-                    .email("inactive@academy.com")
-                    .password("$2a$10$encodedPassword")
-                    .name("비활성 사용자")
-                    .role(UserRole.ADMIN)
-                    .status(UserStatus.INACTIVE)
-                    .build();
+            LoginCredential inactiveUser = new LoginCredential(
+                    2L, "inactive@academy.com", "비활성 사용자",
+                    UserRole.ADMIN, UserStatus.INACTIVE,
+                    "$2a$10$encodedPassword");
 
-            given(userRepository.findByEmail("test@academy.com"))
+            given(userRepository.findLoginCredentialByEmail("test@academy.com"))
                     .willReturn(Optional.of(inactiveUser));
 
             // when & then
@@ -185,21 +285,19 @@ class AuthServiceTest {
                         AuthException authException = (AuthException) e;
                         assertThat(authException.getErrorCode()).isEqualTo(ErrorCode.AUTH_004);
                     });
+            verify(passwordHasher).matches("SecurePass123!", "$2a$10$encodedPassword");
         }
 
         @Test
         @DisplayName("실패: 정지된 계정 (AUTH_004)")
         void login_Fail_SuspendedAccount() {
             // given
-            User suspendedUser = User.builder()
-                    .email("suspended@academy.com")
-                    .password("$2a$10$encodedPassword")
-                    .name("정지된 사용자")
-                    .role(UserRole.ADMIN)
-                    .status(UserStatus.SUSPENDED)
-                    .build();
+            LoginCredential suspendedUser = new LoginCredential(
+                    2L, "suspended@academy.com", "정지된 사용자",
+                    UserRole.ADMIN, UserStatus.SUSPENDED,
+                    "$2a$10$encodedPassword");
 
-            given(userRepository.findByEmail("test@academy.com"))
+            given(userRepository.findLoginCredentialByEmail("test@academy.com"))
                     .willReturn(Optional.of(suspendedUser));
 
             // when & then
@@ -211,5 +309,101 @@ class AuthServiceTest {
                     });
         }
     }
-}
 
+    @Nested
+    @DisplayName("토큰 재발급 테스트")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("성공: 리프레시 토큰 사용 후 새 JWT 토큰과 새 리프레시 토큰 발급 (비밀번호 검증 없음)")
+        void refresh_Success() {
+            // given
+            given(refreshTokenService.consume("refresh-token-string")).willReturn(1L);
+            given(userIdentityCache.get(1L)).willReturn(new UserProfile(
+                    1L, "test@academy.com", "테스트 사용자", UserRole.ADMIN, UserStatus.ACTIVE));
+            given(jwtTokenProvider.generateToken(1L, "test@academy.com", UserRole.ADMIN))
+                    .willReturn("new-jwt-token");
+            given(refreshTokenService.issue(1L)).willReturn("new-refresh-token");
+
+            // when
+            LoginResponseDto response = authService.refresh("refresh-token-string");
+
+            // then
+            assertThat(response.getToken()).isEqualTo("new-jwt-token");
+            assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
+            assertThat(response.getUser().getUserId()).isEqualTo(1L);
+            verifyNoInteractions(passwordHasher, userRepository);
+        }
+
+        @Test
+        @DisplayName("실패: 유효하지 않은 리프레시 토큰 (AUTH_008)")
+        void refresh_Fail_InvalidToken() {
+            // given
+            given(refreshTokenService.consume("unknown"))
+                    .willThrow(new AuthException(ErrorCode.AUTH_008));
+
+            // when & then
+            assertThatThrownBy(() -> authService.refresh("unknown"))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(ErrorCode.AUTH_008));
+            verifyNoInteractions(jwtTokenProvider);
+        }
+
+        @Test
+        @DisplayName("실패: 비활성화된 계정은 새 토큰을 발급하지 않음 (AUTH_004)")
+        void refresh_Fail_InactiveAccount() {
+            // given
+            given(refreshTokenService.consume("refresh-token-string")).willReturn(2L);
+            given(userIdentityCache.get(2L)).willReturn(new UserProfile(
+                    2L, "inactive@academy.com", "비활성 사용자", UserRole.ADMIN, UserStatus.INACTIVE));
+
+            // when & then
+            assertThatThrownBy(() -> authService.refresh("refresh-token-string"))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(ErrorCode.AUTH_004));
+            verify(refreshTokenService, never()).issue(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("로그아웃 테스트")
+    class LogoutTest {
+
+        @Test
+        @DisplayName("성공: access token 폐기 후 같은 사용자의 리프레시 세션 삭제")
+        void logout_Success() {
+            // given
+            given(jwtTokenProvider.revokeToken("jwt-token")).willReturn(AuthenticatedPrincipal.builder()
+                    .tokenId("jti").userId(1L).email("test@academy.com").role(UserRole.ADMIN).build());
+
+            // when
+            authService.logout("jwt-token", "refresh-token-string");
+
+            // then
+            verify(refreshTokenService).revoke("refresh-token-string", 1L);
+        }
+
+        @Test
+        @DisplayName("성공: 리프레시 토큰이 없으면 access token 만 폐기")
+        void logout_WithoutRefreshToken() {
+            // given
+            given(jwtTokenProvider.revokeToken("jwt-token")).willReturn(AuthenticatedPrincipal.builder()
+                    .tokenId("jti").userId(1L).email("test@academy.com").role(UserRole.ADMIN).build());
+
+            // when
+            authService.logout("jwt-token", null);
+
+            // then
+            verifyNoInteractions(refreshTokenService);
+        }
+
+        @Test
+        @DisplayName("실패: Authorization 헤더 없음 (AUTH_001)")
+        void logout_Fail_NoToken() {
+            assertThatThrownBy(() -> authService.logout(null, "refresh-token-string"))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(ErrorCode.AUTH_001));
+            verifyNoInteractions(jwtTokenProvider, refreshTokenService);
+        }
+    }
+}
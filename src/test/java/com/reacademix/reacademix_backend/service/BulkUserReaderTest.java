@@ -0,0 +1,107 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reacademix.reacademix_backend.dto.request.BulkUserRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BulkUserReader 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+class BulkUserReaderTest {
+
+    private static InputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<BulkUserRequest> readAll(BulkUserReader reader) {
+        List<BulkUserRequest> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("CSV 입력 테스트")
+    class CsvTest {
+
+        @Test
+        @DisplayName("성공: 헤더 순서대로 필드를 읽고 큰따옴표 필드와 빈 줄을 처리")
+        void csv_Success() throws Exception {
+            // given
+            String body = "name,email,password,role\n"
+                    + "\"김, \"\"철수\"\"\",kim@academy.com,SecurePass123!,STAFF\n"
+                    + "\n"
+                    + "이영희,lee@academy.com,SecurePass123!,\n";
+
+            // when
+            List<BulkUserRequest> rows = readAll(BulkUserReader.csv(input(body)));
+
+            // then
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0).getName()).isEqualTo("김, \"철수\"");
+            assertThat(rows.get(0).getEmail()).isEqualTo("kim@academy.com");
+            assertThat(rows.get(0).getRole()).isEqualTo("STAFF");
+            assertThat(rows.get(1).getRole()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 필수 컬럼이 없는 헤더")
+        void csv_Fail_MissingColumn() {
+            assertThatThrownBy(() -> BulkUserReader.csv(input("email,name\n")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON 입력 테스트")
+    class JsonTest {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        @Test
+        @DisplayName("성공: 배열 원소를 한 개씩 읽음")
+        void json_Success() throws Exception {
+            // given
+            String body = "[{\"email\":\"kim@academy.com\",\"password\":\"SecurePass123!\",\"name\":\"김철수\"},"
+                    + "{\"email\":\"lee@academy.com\",\"password\":\"SecurePass123!\",\"name\":\"이영희\",\"role\":\"STAFF\"}]";
+
+            // when
+            List<BulkUserRequest> rows = readAll(BulkUserReader.json(input(body), objectMapper));
+
+            // then
+            assertThat(rows).extracting(BulkUserRequest::getEmail)
+                    .containsExactly("kim@academy.com", "lee@academy.com");
+        }
+
+        @Test
+        @DisplayName("실패: 배열이 아닌 본문")
+        void json_Fail_NotArray() {
+            assertThatThrownBy(() -> BulkUserReader.json(input("{\"email\":\"kim@academy.com\"}"), objectMapper))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("실패: 읽는 도중 형식 오류는 UncheckedIOException")
+        void json_Fail_Truncated() throws Exception {
+            // given
+            BulkUserReader reader = BulkUserReader.json(input("[{\"email\":"), objectMapper);
+
+            // when & then
+            assertThatThrownBy(reader::hasNext).isInstanceOf(UncheckedIOException.class);
+        }
+    }
+}
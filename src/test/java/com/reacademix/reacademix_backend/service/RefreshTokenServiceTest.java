@@ -0,0 +1,140 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.reacademix.reacademix_backend.config.ClockConfig;
+import com.reacademix.reacademix_backend.config.JpaAuditingConfig;
+import com.reacademix.reacademix_backend.domain.token.RefreshToken;
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.repository.RefreshTokenRepository;
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RefreshTokenService 테스트 (발급/1회용 사용/배치 정리)
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@DataJpaTest(properties = {"spring.jpa.show-sql=false", "jwt.refresh.purge-batch-size=2"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ClockConfig.class, JpaAuditingConfig.class, RefreshTokenService.class})
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.saveAndFlush(User.builder()
+                .email("test@academy.com")
+                .password("$2a$10$encodedPassword")
+                .name("테스트 사용자")
+                .role(UserRole.ADMIN)
+                .status(UserStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("성공: 원문 대신 32바이트 해시만 저장하고, 토큰은 한 번만 사용 가능")
+    void issueAndConsume_SingleUse() {
+        // given
+        String token = refreshTokenService.issue(userId);
+
+        // then
+        RefreshToken stored = refreshTokenRepository.findAll().get(0);
+        assertThat(stored.getTokenHash()).hasSize(32);
+        assertThat(stored.getUserId()).isEqualTo(userId);
+
+        // when & then
+        assertThat(refreshTokenService.consume(token)).isEqualTo(userId);
+        assertThatThrownBy(() -> refreshTokenService.consume(token))
+                .isInstanceOf(AuthException.class)
+                .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(ErrorCode.AUTH_008));
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 발급하지 않은 토큰 (AUTH_008)")
+    void consume_Fail_Unknown() {
+        assertThatThrownBy(() -> refreshTokenService.consume("not-issued-token"))
+                .isInstanceOf(AuthException.class)
+                .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(ErrorCode.AUTH_008));
+    }
+
+    @Test
+    @DisplayName("성공: 사용자 세션 전체 폐기")
+    void revokeAll() {
+        // given
+        refreshTokenService.issue(userId);
+        refreshTokenService.issue(userId);
+
+        // when
+        int revoked = refreshTokenService.revokeAll(userId);
+
+        // then
+        assertThat(revoked).isEqualTo(2);
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 로그아웃 시 본인 세션만 삭제")
+    void revoke_OwnSessionOnly() {
+        // given
+        String token = refreshTokenService.issue(userId);
+        String other = refreshTokenService.issue(userId);
+
+        // when
+        refreshTokenService.revoke(other, userId + 1);
+        refreshTokenService.revoke(token, userId);
+
+        // then
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(refreshTokenService.consume(other)).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("성공: 만료된 행만 배치 크기 단위로 반복 삭제")
+    void purgeExpired_Batched() {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            refreshTokenRepository.save(RefreshToken.builder()
+                    .tokenHash(new byte[] {(byte) i, 1, 2, 3})
+                    .userId(userId)
+                    .expiresAt(past)
+                    .createdAt(past.minusDays(14))
+                    .build());
+        }
+        String live = refreshTokenService.issue(userId);
+        refreshTokenRepository.flush();
+
+        // when
+        refreshTokenService.purgeExpired();
+
+        // then
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(refreshTokenService.consume(live)).isEqualTo(userId);
+    }
+}
@@ -0,0 +1,299 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.dto.request.BulkUserRequest;
+import com.reacademix.reacademix_backend.dto.response.BulkUserResult;
+import com.reacademix.reacademix_backend.dto.response.BulkUserSummary;
+import com.reacademix.reacademix_backend.exception.AuthException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.repository.UserBatchRepository;
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.security.PasswordHasher;
+import com.reacademix.reacademix_backend.security.RegisteredEmailFilter;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UserProvisioningService 단위 테스트
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProvisioningServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserBatchRepository userBatchRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserProvisioningService userProvisioningService;
+    private List<BulkUserResult> results;
+
+    @BeforeEach
+    void setUp() {
+        userProvisioningService = new UserProvisioningService(
+                userRepository,
+                userBatchRepository,
+                passwordHasher,
+                registeredEmailFilter,
+                new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                Clock.systemDefaultZone(),
+                2);
+        results = new ArrayList<>();
+    }
+
+    private static BulkUserRequest row(String email, String role) {
+        return BulkUserRequest.builder()
+                .email(email)
+                .password("SecurePass123!")
+                .name("테스트 사용자")
+                .role(role)
+                .build();
+    }
+
+    private void givenHashing() {
+        given(passwordHasher.getPoolSize()).willReturn(1);
+        given(passwordHasher.encodeAll(anyList()))
+                .willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                        .map(raw -> "$2a$10$hashed")
+                        .toList());
+    }
+
+    @Nested
+    @DisplayName("대량 등록 테스트")
+    class ProvisionTest {
+
+        @Test
+        @DisplayName("성공: 배치 단위로 중복 확인, 해시, INSERT 후 입력 순서대로 결과 전달")
+        void provision_Success() {
+            // given
+            givenHashing();
+            given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+            given(userBatchRepository.insertAll(anyList(), any(LocalDateTime.class)))
+                    .willReturn(List.of(1L, 2L), List.of(3L));
+
+            // when
+            BulkUserSummary summary = userProvisioningService.provision(
+                    List.of(row("A@academy.com", null), row("b@academy.com", "STAFF"), row("c@academy.com", null))
+                            .iterator(),
+                    results::add);
+
+            // then
+            assertThat(results).extracting(BulkUserResult::getRow).containsExactly(1L, 2L, 3L);
+            assertThat(results).extracting(BulkUserResult::getUserId).containsExactly(1L, 2L, 3L);
+            assertThat(results.get(0).getEmail()).isEqualTo("a@academy.com");
+            assertThat(summary.getCreated()).isEqualTo(3);
+            assertThat(summary.isAborted()).isFalse();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+            verify(userBatchRepository, times(2)).insertAll(captor.capture(), any(LocalDateTime.class));
+            assertThat(captor.getAllValues().get(0)).extracting(User::getRole)
+                    .containsExactly(UserRole.ADMIN, UserRole.STAFF);
+            verify(userRepository, times(2)).findExistingEmails(anyCollection());
+            verify(registeredEmailFilter).add("a@academy.com");
+        }
+
+        @Test
+        @DisplayName("성공: 검증 실패, 요청 내 중복, 기존 가입 이메일은 INSERT 대상에서 제외")
+        void provision_SkipsInvalidAndDuplicates() {
+            // given
+            givenHashing();
+            given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of("exists@academy.com"));
+            given(userBatchRepository.insertAll(anyList(), any(LocalDateTime.class))).willReturn(List.of(10L));
+
+            // when
+            BulkUserSummary summary = userProvisioningService.provision(
+                    List.of(row("new@academy.com", null), row("NEW@academy.com", null),
+                            row("not-an-email", null), row("exists@academy.com", null)).iterator(),
+                    results::add);
+
+            // then
+            assertThat(results).extracting(BulkUserResult::getStatus).containsExactly(
+                    BulkUserResult.Status.CREATED,
+                    BulkUserResult.Status.DUPLICATE,
+                    BulkUserResult.Status.INVALID,
+                    BulkUserResult.Status.DUPLICATE);
+            assertThat(summary.getTotal()).isEqualTo(4);
+            assertThat(summary.getCreated()).isEqualTo(1);
+            assertThat(summary.getDuplicate()).isEqualTo(2);
+            assertThat(summary.getInvalid()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 앞 배치에서 등록한 이메일은 다음 배치의 기존 가입 확인에서 중복 처리")
+        void provision_DuplicateAcrossChunks() {
+            // given
+            givenHashing();
+            given(userRepository.findExistingEmails(anyCollection()))
+                    .willReturn(List.of(), List.of("a@academy.com"));
+            given(userBatchRepository.insertAll(anyList(), any(LocalDateTime.class)))
+                    .willReturn(List.of(1L, 2L));
+
+            // when
+            BulkUserSummary summary = userProvisioningService.provision(
+                    List.of(row("a@academy.com", null), row("b@academy.com", null), row("A@academy.com", null))
+                            .iterator(),
+                    results::add);
+
+            // then
+            assertThat(results).extracting(BulkUserResult::getStatus).containsExactly(
+                    BulkUserResult.Status.CREATED,
+                    BulkUserResult.Status.CREATED,
+                    BulkUserResult.Status.DUPLICATE);
+            assertThat(summary.getDuplicate()).isEqualTo(1);
+            verify(userBatchRepository, times(1)).insertAll(anyList(), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("성공: 배치 INSERT 중 unique 제약 위반 시 행 단위로 재시도")
+        void provision_FallsBackToRowInsert() {
+            // given
+            givenHashing();
+            given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+            given(userBatchRepository.insertAll(anyList(), any(LocalDateTime.class)))
+                    .willThrow(new DataIntegrityViolationException("duplicate"))
+                    .willReturn(List.of(1L))
+                    .willThrow(new DataIntegrityViolationException("duplicate"));
+
+            // when
+            BulkUserSummary summary = userProvisioningService.provision(
+                    List.of(row("a@academy.com", null), row("b@academy.com", null)).iterator(),
+                    results::add);
+
+            // then
+            assertThat(results).extracting(BulkUserResult::getStatus)
+                    .containsExactly(BulkUserResult.Status.CREATED, BulkUserResult.Status.DUPLICATE);
+            assertThat(summary.getCreated()).isEqualTo(1);
+            verify(registeredEmailFilter).add("a@academy.com");
+            verify(registeredEmailFilter, never()).add("b@academy.com");
+        }
+
+        @Test
+        @DisplayName("실패: 두 번째 배치의 기존 이메일 조회 실패 시 해당 배치 행만 FAILED 로 기록하고 계속 처리")
+        void provision_LookupFailsInSecondChunk() {
+            // given
+            givenHashing();
+            given(userRepository.findExistingEmails(anyCollection()))
+                    .willReturn(List.of())
+                    .willThrow(new QueryTimeoutException("timeout"))
+                    .willReturn(List.of());
+            given(userBatchRepository.insertAll(anyList(), any(LocalDateTime.class)))
+                    .willReturn(List.of(1L, 2L), List.of(3L));
+
+            // when
+            BulkUserSummary summary = userProvisioningService.provision(
+                    List.of(row("a@academy.com", null), row("b@academy.com", null),
+                                    row("c@academy.com", null), row("d@academy.com", null),
+                                    row("e@academy.com", null))
+                            .iterator(),
+                    results::add);
+
+            // then
+            assertThat(results).extracting(BulkUserResult::getStatus).containsExactly(
+                    BulkUserResult.Status.CREATED, BulkUserResult.Status.CREATED,
+                    BulkUserResult.Status.FAILED, BulkUserResult.Status.FAILED,
+                    BulkUserResult.Status.CREATED);
+            assertThat(results.get(2).getMessage()).isEqualTo(ErrorCode.SYSTEM_002.getMessage());
+            assertThat(summary.getTotal()).isEqualTo(5);
+            assertThat(summary.getCreated()).isEqualTo(3);
+            assertThat(summary.getFailed()).isEqualTo(2);
+            verify(userBatchRepository, times(2)).insertAll(anyList(), any(LocalDateTime.class));
+            verify(registeredEmailFilter, never()).add("c@academy.com");
+        }
+
+        @Test
+        @DisplayName("실패: 해시 스레드 풀 포화 시 해당 행은 FAILED")
+        void provision_HashSaturated() {
+            // given
+            given(passwordHasher.getPoolSize()).willReturn(4);
+            given(passwordHasher.encodeAll(anyList())).willThrow(new AuthException(ErrorCode.SYSTEM_004));
+            given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+
+            // when
+            BulkUserSummary summary = userProvisioningService.provision(
+                    List.of(row("a@academy.com", null)).iterator(), results::add);
+
+            // then
+            assertThat(results.get(0).getStatus()).isEqualTo(BulkUserResult.Status.FAILED);
+            assertThat(results.get(0).getMessage()).isEqualTo(ErrorCode.SYSTEM_004.getMessage());
+            assertThat(summary.getFailed()).isEqualTo(1);
+            verify(userBatchRepository, never()).insertAll(anyList(), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("실패: 입력 형식 오류 시 이전 행까지 처리하고 중단")
+        void provision_AbortsOnMalformedInput() {
+            // given
+            givenHashing();
+            given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+            given(userBatchRepository.insertAll(anyList(), any(LocalDateTime.class))).willReturn(List.of(1L));
+            Iterator<BulkUserRequest> rows = new Iterator<>() {
+                private boolean first = true;
+
+                @Override
+                public boolean hasNext() {
+                    if (first) {
+                        return true;
+                    }
+                    throw new UncheckedIOException(new IOException("Unexpected end-of-input"));
+                }
+
+                @Override
+                public BulkUserRequest next() {
+                    first = false;
+                    return row("a@academy.com", null);
+                }
+            };
+
+            // when
+            BulkUserSummary summary = userProvisioningService.provision(rows, results::add);
+
+            // then
+            assertThat(summary.isAborted()).isTrue();
+            assertThat(summary.getCreated()).isEqualTo(1);
+            assertThat(results).hasSize(1);
+        }
+    }
+}
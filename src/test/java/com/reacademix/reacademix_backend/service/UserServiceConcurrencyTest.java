@@ -0,0 +1,120 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.reacademix.reacademix_backend.dto.request.UserSignupRequest;
+import com.reacademix.reacademix_backend.exception.BusinessException;
+import com.reacademix.reacademix_backend.exception.ErrorCode;
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 회원가입 스트레스 테스트
+ * 같은 이메일로 동시에 가입해도 정확히 한 건만 성공하고 나머지는 RESOURCE_003 (409) 이어야 한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "security.password.calibrate=false",
+        "security.password.min-strength=4",
+        "spring.jpa.show-sql=false"
+})
+class UserServiceConcurrencyTest {
+
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private static UserSignupRequest signupRequest(String email) {
+        UserSignupRequest request = new UserSignupRequest();
+        ReflectionTestUtils.setField(request, "email", email);
+        ReflectionTestUtils.setField(request, "password", "SecurePass123!");
+        ReflectionTestUtils.setField(request, "name", "동시 가입자");
+        return request;
+    }
+
+    @Test
+    @DisplayName("성공: 같은 이메일 동시 가입 시 한 건만 생성되고 나머지는 RESOURCE_003")
+    void signup_ConcurrentDuplicates() throws Exception {
+        // given
+        UserSignupRequest request = signupRequest("concurrent@academy.com");
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        List<Throwable> unexpected = new ArrayList<>();
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    userService.signup(request);
+                    succeeded.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.RESOURCE_003) {
+                        conflicted.incrementAndGet();
+                    } else {
+                        synchronized (unexpected) {
+                            unexpected.add(e);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    synchronized (unexpected) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(conflicted.get()).isEqualTo(CONCURRENT_REQUESTS - 1);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 이미 가입된 이메일 (대소문자 무관) 재가입 시 RESOURCE_003")
+    void signup_Fail_Duplicate() {
+        // given
+        userService.signup(signupRequest("dup@academy.com"));
+
+        // when & then
+        assertThatThrownBy(() -> userService.signup(signupRequest("DUP@academy.com")))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.RESOURCE_003));
+    }
+}
@@ -0,0 +1,114 @@
+package com.reacademix.reacademix_backend.service;
+
+import com.reacademix.reacademix_backend.domain.user.User;
+import com.reacademix.reacademix_backend.domain.user.UserRole;
+import com.reacademix.reacademix_backend.domain.user.UserStatus;
+import com.reacademix.reacademix_backend.repository.RefreshTokenRepository;
+import com.reacademix.reacademix_backend.repository.UserRepository;
+import com.reacademix.reacademix_backend.security.UserIdentityCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserService 상태/역할 변경 통합 테스트
+ * 커밋된 변경만 UserIdentityCache 를 무효화하고, 비활성화 시 리프레시 토큰 세션이 폐기되어야 한다.
+ *
+ * @author Backend Team
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "security.password.calibrate=false",
+        "security.password.min-strength=4",
+        "spring.jpa.show-sql=false"
+})
+class UserServiceIdentityChangeTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserIdentityCache userIdentityCache;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.saveAndFlush(User.builder()
+                .email("identity@academy.com")
+                .password("$2a$10$encodedPassword")
+                .name("테스트 사용자")
+                .role(UserRole.ADMIN)
+                .status(UserStatus.ACTIVE)
+                .build()).getId();
+        refreshTokenService.issue(userId);
+        // 캐시에 ACTIVE/ADMIN 엔트리를 적재
+        assertThat(userIdentityCache.get(userId).status()).isEqualTo(UserStatus.ACTIVE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: 비활성화 커밋 후 다음 조회는 새 상태를 반환하고 세션이 폐기됨")
+    void changeStatus_Deactivate_InvalidatesCacheAndRevokesSessions() {
+        // when
+        userService.changeStatus(userId, UserStatus.INACTIVE);
+
+        // then
+        assertThat(userIdentityCache.get(userId).status()).isEqualTo(UserStatus.INACTIVE);
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 역할 변경 커밋 후 다음 조회는 새 역할을 반환하고 세션은 유지됨")
+    void changeRole_InvalidatesCache() {
+        // when
+        userService.changeRole(userId, UserRole.STAFF);
+
+        // then
+        assertThat(userIdentityCache.get(userId).role()).isEqualTo(UserRole.STAFF);
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 롤백된 상태 변경은 캐시를 무효화하지 않고 세션도 유지됨")
+    void changeStatus_RolledBack_KeepsCacheEntry() {
+        // given: 캐시 엔트리가 남아 있는지 구분하기 위해 DB 값만 직접 변경
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().changeRole(UserRole.STAFF));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.changeStatus(userId, UserStatus.INACTIVE);
+            status.setRollbackOnly();
+        });
+
+        // then: 무효화되지 않았으므로 적재 당시 엔트리 그대로
+        assertThat(userIdentityCache.get(userId).status()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(userIdentityCache.get(userId).role()).isEqualTo(UserRole.ADMIN);
+        assertThat(userRepository.findById(userId).orElseThrow().getStatus()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+    }
+}